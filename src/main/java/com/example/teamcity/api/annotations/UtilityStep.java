@@ -0,0 +1,20 @@
+package com.example.teamcity.api.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+/**
+ * Низкоуровневый шаг (генерация данных, извлечение ответа, спецификации). В отличие от @Step, по умолчанию
+ * не создает шаг в Allure, а только учитывается в сводке времени, см. UtilityStepAspect и параметр steps.utility.mode
+ */
+public @interface UtilityStep {
+
+    /**
+     * Step name template, same placeholders as in {@link io.qameta.allure.Step#value()}; used in the full mode only.
+     */
+    String value() default "";
+}
@@ -0,0 +1,117 @@
+package com.example.teamcity.api.aspects;
+
+import io.qameta.allure.Allure;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Aggregated call count and time of {@link com.example.teamcity.api.annotations.UtilityStep} methods.
+ * <p>
+ * Timings are collected for the whole run and, between {@link #openScope()} and {@link #closeScope()}, for the
+ * current test. Like {@code TestDataStorage}, the test scope is bound to the thread and travels with async requests.
+ */
+public final class StepTimings {
+
+    private static final StepTimings RUN_TOTALS = new StepTimings();
+    private static final ThreadLocal<StepTimings> SCOPED = new ThreadLocal<>();
+
+    private final Map<String, Stat> stats = new ConcurrentHashMap<>();
+
+    private StepTimings() {}
+
+    static void record(String step, long nanos) {
+        RUN_TOTALS.add(step, nanos);
+        var scoped = SCOPED.get();
+        if (scoped != null) {
+            scoped.add(step, nanos);
+        }
+    }
+
+    /**
+     * Starts collecting timings of the current test on this thread.
+     */
+    public static void openScope() {
+        SCOPED.set(new StepTimings());
+    }
+
+    /**
+     * Stops collecting timings of the current test and attaches them to the Allure report, if any were recorded.
+     */
+    public static void closeScope() {
+        var scoped = SCOPED.get();
+        SCOPED.remove();
+        if (scoped != null && !scoped.stats.isEmpty()) {
+            Allure.addAttachment("Utility step timings", scoped.toString());
+        }
+    }
+
+    /**
+     * @return timings of the current test, or {@code null} outside a test scope
+     */
+    public static StepTimings current() {
+        return SCOPED.get();
+    }
+
+    /**
+     * Runs the task with the given test timings bound to the current thread, restoring the previous binding after.
+     *
+     * @param timings test timings to bind, may be {@code null}
+     * @param task    task to run
+     * @param <V>     result type
+     * @return task result
+     */
+    public static <V> V runInScope(StepTimings timings, Supplier<V> task) {
+        var previous = SCOPED.get();
+        SCOPED.set(timings);
+        try {
+            return task.get();
+        } finally {
+            SCOPED.set(previous);
+        }
+    }
+
+    /**
+     * @return timings of all utility steps since the JVM start
+     */
+    public static StepTimings getRunTotals() {
+        return RUN_TOTALS;
+    }
+
+    private void add(String step, long nanos) {
+        stats.computeIfAbsent(step, key -> new Stat()).add(nanos);
+    }
+
+    /**
+     * @return one line per step, slowest in total first
+     */
+    @Override
+    public String toString() {
+        return stats.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, Stat> entry) -> entry.getValue().totalNanos.sum()).reversed())
+                .map(entry -> "%s: %s".formatted(entry.getKey(), entry.getValue()))
+                .collect(Collectors.joining(System.lineSeparator()));
+    }
+
+    private static final class Stat {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        private void add(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+
+        @Override
+        public String toString() {
+            return "%d calls, total %.3f ms, max %.3f ms".formatted(count.sum(), totalNanos.sum() / 1e6, maxNanos.get() / 1e6);
+        }
+    }
+}
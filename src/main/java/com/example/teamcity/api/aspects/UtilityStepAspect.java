@@ -0,0 +1,74 @@
+package com.example.teamcity.api.aspects;
+
+import com.example.teamcity.api.annotations.UtilityStep;
+import com.example.teamcity.api.config.Config;
+import io.qameta.allure.Allure;
+import io.qameta.allure.model.Status;
+import io.qameta.allure.model.StepResult;
+import io.qameta.allure.util.AspectUtils;
+import io.qameta.allure.util.ResultsUtils;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Weaves {@link UtilityStep} methods according to {@code steps.utility.mode}:
+ * <ul>
+ *     <li>{@code full} - report each call as an Allure step, like {@link io.qameta.allure.Step}</li>
+ *     <li>{@code summary} (default) - no Allure step, only call count and time in {@link StepTimings}</li>
+ *     <li>{@code off} - call the method directly</li>
+ * </ul>
+ * Registered for load-time weaving in {@code META-INF/aop.xml}.
+ */
+@Aspect
+public class UtilityStepAspect {
+
+    enum Mode { FULL, SUMMARY, OFF }
+
+    private static final Mode MODE = Mode.valueOf(Config.getProperty("steps.utility.mode", "summary").toUpperCase(Locale.ROOT));
+
+    @Around("execution(@com.example.teamcity.api.annotations.UtilityStep * *(..)) && @annotation(step)")
+    public Object around(ProceedingJoinPoint joinPoint, UtilityStep step) throws Throwable {
+        return switch (MODE) {
+            case OFF -> joinPoint.proceed();
+            case SUMMARY -> timed(joinPoint);
+            case FULL -> reported(joinPoint, step);
+        };
+    }
+
+    private static Object timed(ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            StepTimings.record(joinPoint.getStaticPart().getSignature().toShortString(), System.nanoTime() - start);
+        }
+    }
+
+    private static Object reported(ProceedingJoinPoint joinPoint, UtilityStep step) throws Throwable {
+        var lifecycle = Allure.getLifecycle();
+        var uuid = UUID.randomUUID().toString();
+        var name = step.value().isEmpty()
+                ? joinPoint.getSignature().getName()
+                : AspectUtils.getName(step.value(), joinPoint);
+        lifecycle.startStep(uuid, new StepResult()
+                .setName(name)
+                .setParameters(AspectUtils.getParameters((MethodSignature) joinPoint.getSignature(), joinPoint.getArgs())));
+        try {
+            Object result = joinPoint.proceed();
+            lifecycle.updateStep(uuid, stepResult -> stepResult.setStatus(Status.PASSED));
+            return result;
+        } catch (Throwable e) {
+            lifecycle.updateStep(uuid, stepResult -> stepResult
+                    .setStatus(ResultsUtils.getStatus(e).orElse(Status.BROKEN))
+                    .setStatusDetails(ResultsUtils.getStatusDetails(e).orElse(null)));
+            throw e;
+        } finally {
+            lifecycle.stopStep(uuid);
+        }
+    }
+}
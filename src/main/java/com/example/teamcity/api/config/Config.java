@@ -5,8 +5,7 @@ import java.io.InputStream;
 import java.util.Properties;
 
 public class Config {
-    private static Config config;
-    private Properties properties;
+    private final Properties properties;
     private static final String CONFIG_PROPERTIES = "config.properties";
 
 
@@ -16,10 +15,7 @@ public class Config {
     }
 
     public static Config getConfig() {
-        if (config == null) {
-            config = new Config();
-        }
-        return config;
+        return Holder.CONFIG;
     }
 
 
@@ -27,6 +23,30 @@ public class Config {
         return getConfig().properties.getProperty(key);
     }
 
+    /**
+     * Returns a property value, letting a JVM system property (-Dkey=value) override the file value.
+     *
+     * @param key          property key
+     * @param defaultValue value used when the property is set neither in the JVM nor in the file
+     * @return resolved property value
+     */
+    public static String getProperty(String key, String defaultValue) {
+        String value = System.getProperty(key, getProperty(key));
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
+
+    /**
+     * Returns an integer property value, resolved like {@link #getProperty(String, String)}.
+     *
+     * @param key          property key
+     * @param defaultValue value used when the property is set neither in the JVM nor in the file
+     * @return resolved property value
+     * @throws NumberFormatException if the resolved value is not an integer
+     */
+    public static int getIntProperty(String key, int defaultValue) {
+        return Integer.parseInt(getProperty(key, String.valueOf(defaultValue)));
+    }
+
     private void loadProperties(String filename) {
         try (InputStream stream = Config.class.getClassLoader().getResourceAsStream(filename)) {
             if (stream == null) {
@@ -39,4 +59,9 @@ public class Config {
             throw new RuntimeException(e);
         }
     }
+
+    // Lazy, thread-safe initialization: the JVM loads Holder on the first getConfig() call
+    private static final class Holder {
+        private static final Config CONFIG = new Config();
+    }
 }
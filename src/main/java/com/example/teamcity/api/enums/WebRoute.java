@@ -4,7 +4,8 @@ public enum WebRoute {
     GITHUB_REPO("https://github.com/ta-ulyanava/JAVA-teamcity-tests-homeTask.git"),
     PROJECT_PAGE("/project/%s"),
     BUILD_TYPE_PAGE("/buildConfiguration/%s"),
-    CREATE_BUILD_TYPE_PAGE("/admin/createObjectMenu.html?projectId=%s&showMode=createBuildTypeMenu");
+    CREATE_BUILD_TYPE_PAGE("/admin/createObjectMenu.html?projectId=%s&showMode=createBuildTypeMenu"),
+    FAVICON("/favicon.ico");
 
     private final String url;
 
@@ -0,0 +1,46 @@
+package com.example.teamcity.api.generators;
+
+import com.example.teamcity.api.models.BaseModel;
+import com.example.teamcity.api.validation.ModelComparator;
+
+import java.util.Optional;
+
+/**
+ * Locates the compile-time generated {@code <Model>Generator} and {@code <Model>Comparator} of a model class.
+ * <p>
+ * Each class is looked up once; classes without generated code (e.g. when compiled without the annotation processor)
+ * resolve to empty, and callers fall back to reflection.
+ */
+public final class GeneratedModels {
+
+    private static final ClassValue<Optional<Object>> GENERATORS = lookup("Generator");
+    private static final ClassValue<Optional<Object>> COMPARATORS = lookup("Comparator");
+
+    private GeneratedModels() {}
+
+    @SuppressWarnings("unchecked")
+    public static <T extends BaseModel> Optional<ModelGenerator<T>> generator(Class<T> type) {
+        return GENERATORS.get(type).map(generator -> (ModelGenerator<T>) generator);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> Optional<ModelComparator<T>> comparator(Class<T> type) {
+        return COMPARATORS.get(type).map(comparator -> (ModelComparator<T>) comparator);
+    }
+
+    private static ClassValue<Optional<Object>> lookup(String suffix) {
+        return new ClassValue<>() {
+            @Override
+            protected Optional<Object> computeValue(Class<?> type) {
+                try {
+                    var generated = Class.forName(type.getName() + suffix, true, type.getClassLoader());
+                    return Optional.of(generated.getDeclaredConstructor().newInstance());
+                } catch (ClassNotFoundException e) {
+                    return Optional.empty();
+                } catch (ReflectiveOperationException e) {
+                    throw new IllegalStateException("Cannot instantiate generated " + type.getSimpleName() + suffix, e);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.teamcity.api.generators;
+
+import com.example.teamcity.api.annotations.Optional;
+import com.example.teamcity.api.annotations.Parameterizable;
+import com.example.teamcity.api.annotations.Random;
+import com.example.teamcity.api.models.BaseModel;
+import com.example.teamcity.api.reflection.ClassAccessor;
+import com.example.teamcity.api.reflection.FieldAccessor;
+import lombok.Builder;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reflection metadata of a model class, resolved once per class and reused by {@link TestDataGenerator}.
+ * <p>
+ * Holds the {@link ClassAccessor} of the class and, for every instance field, its accessor, annotation flags,
+ * nested model type and the index of the generator parameter it consumes. A field consumes the next parameter when it
+ * is {@link Parameterizable}, or when it is a Boolean, String, List or model field not filled with random data; since
+ * this does not depend on the parameters passed, the slot index of each field is fixed per class.
+ */
+final class GenerationPlan {
+
+    private static final ClassValue<GenerationPlan> PLANS = new ClassValue<>() {
+        @Override
+        protected GenerationPlan computeValue(Class<?> type) {
+            return new GenerationPlan(type);
+        }
+    };
+
+    enum Kind { VALUE, MODEL_LIST, LIST, MODEL, OTHER }
+
+    record FieldPlan(FieldAccessor accessor, Kind kind, boolean parameterizable, boolean randomString, boolean optional,
+                     boolean hasDefault, int slot, Class<? extends BaseModel> nestedType) {
+
+        boolean isParamAvailable(Object[] parameters) {
+            return parameters.length > slot;
+        }
+    }
+
+    private final ClassAccessor classAccessor;
+    private final List<FieldPlan> fields;
+
+    private GenerationPlan(Class<?> type) {
+        classAccessor = ClassAccessor.of(type);
+        List<FieldPlan> plans = new ArrayList<>();
+        int slot = 0;
+        for (FieldAccessor accessor : classAccessor.fields()) {
+            Field field = accessor.getField();
+            Class<?> fieldType = field.getType();
+            boolean parameterizable = field.isAnnotationPresent(Parameterizable.class);
+            boolean randomString = field.isAnnotationPresent(Random.class) && fieldType.equals(String.class);
+            Kind kind;
+            Class<? extends BaseModel> nestedType = null;
+            if (fieldType.equals(Boolean.class) || fieldType.equals(String.class)) {
+                kind = Kind.VALUE;
+            } else if (List.class.isAssignableFrom(fieldType)) {
+                var genericType = (Class<?>) ((ParameterizedType) field.getGenericType()).getActualTypeArguments()[0];
+                if (BaseModel.class.isAssignableFrom(genericType)) {
+                    kind = Kind.MODEL_LIST;
+                    nestedType = genericType.asSubclass(BaseModel.class);
+                } else {
+                    kind = Kind.LIST;
+                }
+            } else if (BaseModel.class.isAssignableFrom(fieldType)) {
+                kind = Kind.MODEL;
+                nestedType = fieldType.asSubclass(BaseModel.class);
+            } else {
+                kind = Kind.OTHER;
+            }
+            plans.add(new FieldPlan(accessor, kind, parameterizable, randomString, field.isAnnotationPresent(Optional.class),
+                    field.isAnnotationPresent(Builder.Default.class), slot, nestedType));
+            if (parameterizable || (!randomString && kind != Kind.OTHER)) {
+                slot++;
+            }
+        }
+        fields = List.copyOf(plans);
+    }
+
+    static GenerationPlan of(Class<?> type) {
+        return PLANS.get(type);
+    }
+
+    Object newInstance() {
+        return classAccessor.newInstance();
+    }
+
+    List<FieldPlan> fields() {
+        return fields;
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.teamcity.api.generators;
+
+import com.example.teamcity.api.models.BaseModel;
+
+import java.util.List;
+
+/**
+ * Reflection-free generator of one model class, generated at compile time as {@code <Model>Generator}
+ * next to the model. Used by {@link TestDataGenerator} when available.
+ *
+ * @param <T> generated model type
+ */
+public interface ModelGenerator<T extends BaseModel> {
+
+    /**
+     * Generates a model, filling its fields from the parameters or by the model annotations.
+     *
+     * @param generatedModels list of previously generated models
+     * @param parameters      values for the parameter-consuming fields, in declaration order
+     * @return generated model
+     */
+    T generate(List<BaseModel> generatedModels, Object... parameters);
+
+    /**
+     * Returns a generator parameter checked against the field type.
+     *
+     * @param parameters generator parameters
+     * @param slot       parameter index
+     * @param type       field type, boxed for primitive fields
+     * @param <V>        field type
+     * @return parameter value
+     * @throws IllegalArgumentException if the value is not assignable to the field type
+     */
+    static <V> V parameter(Object[] parameters, int slot, Class<V> type) {
+        Object value = parameters[slot];
+        if (value != null && !type.isInstance(value)) {
+            throw new IllegalArgumentException("Parameter %d of type %s cannot be assigned to a field of type %s"
+                    .formatted(slot, value.getClass().getSimpleName(), type.getSimpleName()));
+        }
+        return type.cast(value);
+    }
+}
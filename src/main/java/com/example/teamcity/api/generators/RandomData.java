@@ -1,18 +1,17 @@
 package com.example.teamcity.api.generators;
 
-import io.qameta.allure.Step;
-import org.apache.commons.lang3.RandomStringUtils;
-
-import java.util.Random;
-
 /**
  * Utility class for generating random test data such as strings, IDs, and names.
+ * <p>
+ * Values come from {@link UniqueIdSource}: unique IDs and names are unique across threads and forked JVMs,
+ * and random parts of a test are reproducible with {@code -Drandom.seed}.
  */
 public final class RandomData {
 
     private static final String TEST_PREFIX = "test_";
     private static final int MAX_LENGTH = 10;
-    private static final Random RANDOM = new Random();
+    private static final String ALPHANUMERIC = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
+    private static final String DIGITS = "0123456789";
 
     private RandomData() {}
 
@@ -21,9 +20,8 @@ public final class RandomData {
      *
      * @return random string with prefix, e.g., test_ab12XyZ89
      */
-    @Step("Generate random string with default prefix")
     public static String getString() {
-        return TEST_PREFIX + RandomStringUtils.randomAlphanumeric(MAX_LENGTH);
+        return TEST_PREFIX + random(ALPHANUMERIC, MAX_LENGTH);
     }
 
     /**
@@ -32,29 +30,26 @@ public final class RandomData {
      * @param length total length of the resulting string including prefix
      * @return random string with prefix of specified length
      */
-    @Step("Generate random string with prefix of length {length}")
     public static String getString(int length) {
-        return TEST_PREFIX + RandomStringUtils.randomAlphanumeric(Math.max(length - TEST_PREFIX.length(), 1));
+        return TEST_PREFIX + random(ALPHANUMERIC, Math.max(length - TEST_PREFIX.length(), 1));
     }
 
     /**
-     * Generates a unique name using the current timestamp and random characters.
+     * Generates a unique name: run prefix and counter from {@link UniqueIdSource}, followed by random characters.
      *
      * @return unique name string
      */
-    @Step("Generate unique name")
     public static String getUniqueName() {
-        return TEST_PREFIX + System.currentTimeMillis() + RandomStringUtils.randomAlphanumeric(MAX_LENGTH);
+        return TEST_PREFIX + UniqueIdSource.nextId() + random(ALPHANUMERIC, MAX_LENGTH);
     }
 
     /**
-     * Generates a unique ID using the current timestamp and random characters.
+     * Generates a unique ID: run prefix and counter from {@link UniqueIdSource}, followed by random characters.
      *
      * @return unique ID string
      */
-    @Step("Generate unique ID")
     public static String getUniqueId() {
-        return TEST_PREFIX + System.currentTimeMillis() + RandomStringUtils.randomAlphanumeric(MAX_LENGTH);
+        return TEST_PREFIX + UniqueIdSource.nextId() + random(ALPHANUMERIC, MAX_LENGTH);
     }
 
     /**
@@ -63,8 +58,16 @@ public final class RandomData {
      * @param length number of digits
      * @return numeric string
      */
-    @Step("Generate random digit string of length {length}")
     public static String getDigits(int length) {
-        return RandomStringUtils.randomNumeric(length);
+        return random(DIGITS, length);
+    }
+
+    private static String random(String alphabet, int length) {
+        var random = UniqueIdSource.random();
+        var chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = alphabet.charAt(random.nextInt(alphabet.length()));
+        }
+        return new String(chars);
     }
 }
@@ -1,15 +1,10 @@
 package com.example.teamcity.api.generators;
 
-import com.example.teamcity.api.annotations.Optional;
-import com.example.teamcity.api.annotations.Parameterizable;
-import com.example.teamcity.api.annotations.Random;
+import com.example.teamcity.api.annotations.UtilityStep;
 import com.example.teamcity.api.models.BaseModel;
 import com.example.teamcity.api.models.TestData;
-import io.qameta.allure.Step;
-import lombok.Builder;
+import com.example.teamcity.api.reflection.FieldAccessor;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -17,7 +12,9 @@ import java.util.List;
 /**
  * Utility class for generating test data models based on custom annotations.
  * <p>
- * Handles field population for models using reflection and annotations like @Random, @Optional, and @Parameterizable.
+ * Handles field population for models using annotations like @Random, @Optional, and @Parameterizable.
+ * Models with a compile-time generated {@link ModelGenerator} are filled without reflection; for other classes,
+ * reflection metadata and field accessors are resolved once per class, see {@link GenerationPlan}.
  */
 public final class TestDataGenerator {
 
@@ -32,102 +29,77 @@ public final class TestDataGenerator {
      * @param <T>             type extending BaseModel
      * @return generated and populated instance of the given class
      */
-    @Step("Generate instance of class {generatorClass}")
+    @UtilityStep("Generate instance of class {generatorClass}")
     public static <T extends BaseModel> T generate(List<BaseModel> generatedModels, Class<T> generatorClass, Object... parameters) {
-        try {
-            var instance = generatorClass.getDeclaredConstructor().newInstance();
-            var paramIndex = 0;
+        var generator = GeneratedModels.generator(generatorClass);
+        if (generator.isPresent()) {
+            return generator.get().generate(generatedModels, parameters);
+        }
+        return generateReflectively(generatedModels, generatorClass, parameters);
+    }
 
-            for (Field field : generatorClass.getDeclaredFields()) {
-                field.setAccessible(true);
-                boolean isParamAvailable = parameters.length > paramIndex;
-                boolean hasDefault = field.isAnnotationPresent(Builder.Default.class);
-                boolean isOptional = field.isAnnotationPresent(Optional.class);
+    /**
+     * Reflective generation, used for models without a generated {@link ModelGenerator}.
+     */
+    static <T extends BaseModel> T generateReflectively(List<BaseModel> generatedModels, Class<T> generatorClass, Object... parameters) {
+        var plan = GenerationPlan.of(generatorClass);
+        var instance = generatorClass.cast(plan.newInstance());
 
-                if (isOptional && !isParamAvailable && !hasDefault) {
-                    field.set(instance, null);
-                    continue;
-                }
+        for (var fieldPlan : plan.fields()) {
+            FieldAccessor field = fieldPlan.accessor();
+            boolean isParamAvailable = fieldPlan.isParamAvailable(parameters);
 
-                if (field.isAnnotationPresent(Parameterizable.class) && isParamAvailable) {
-                    field.set(instance, parameters[paramIndex]);
-                    paramIndex++;
-                    continue;
-                }
+            if (fieldPlan.optional() && !isParamAvailable && !fieldPlan.hasDefault()) {
+                field.set(instance, null);
+                continue;
+            }
 
-                if (field.isAnnotationPresent(Random.class) && field.getType().equals(String.class)) {
-                    field.set(instance, RandomData.getString());
-                    continue;
-                }
+            if (fieldPlan.parameterizable() && isParamAvailable) {
+                field.set(instance, parameters[fieldPlan.slot()]);
+                continue;
+            }
 
-                if (field.getType().equals(Boolean.class)) {
+            if (fieldPlan.randomString()) {
+                field.set(instance, RandomData.getString());
+                continue;
+            }
+
+            // Optional fields without a parameter and default were nulled above; the rest keep their default value
+            switch (fieldPlan.kind()) {
+                case VALUE -> {
                     if (isParamAvailable) {
-                        field.set(instance, parameters[paramIndex]);
-                        paramIndex++;
-                    } else if (!isOptional || hasDefault) {
-                        field.set(instance, field.get(instance));
-                    } else {
-                        field.set(instance, null);
+                        field.set(instance, parameters[fieldPlan.slot()]);
                     }
-                    continue;
                 }
-
-                if (field.getType().equals(String.class)) {
+                case MODEL_LIST -> {
                     if (isParamAvailable) {
-                        field.set(instance, parameters[paramIndex]);
-                        paramIndex++;
-                    } else if (!isOptional || hasDefault) {
-                        field.set(instance, field.get(instance));
-                    } else {
-                        field.set(instance, null);
+                        field.set(instance, parameters[fieldPlan.slot()]);
+                    } else if (!fieldPlan.hasDefault()) {
+                        List<BaseModel> generatedList = new ArrayList<>();
+                        generatedList.add(generate(generatedModels, fieldPlan.nestedType()));
+                        field.set(instance, generatedList);
                     }
-                    continue;
                 }
-
-                if (List.class.isAssignableFrom(field.getType())) {
-                    var genericType = (Class<?>) ((java.lang.reflect.ParameterizedType) field.getGenericType()).getActualTypeArguments()[0];
-
-                    if (BaseModel.class.isAssignableFrom(genericType)) {
-                        List<BaseModel> generatedList = new ArrayList<>();
-
-                        if (isParamAvailable) {
-                            field.set(instance, parameters[paramIndex]);
-                        } else if (hasDefault) {
-                            field.set(instance, field.get(instance));
-                        } else if (!isOptional) {
-                            generatedList.add(generate(generatedModels, genericType.asSubclass(BaseModel.class)));
-                            field.set(instance, generatedList);
-                        } else {
-                            field.set(instance, null);
-                        }
-
-                        if (isParamAvailable) paramIndex++;
-                    } else {
-                        field.set(instance, isParamAvailable ? parameters[paramIndex] : (hasDefault ? field.get(instance) : (isOptional ? null : List.of())));
-                        if (isParamAvailable) paramIndex++;
+                case LIST -> {
+                    if (isParamAvailable) {
+                        field.set(instance, parameters[fieldPlan.slot()]);
+                    } else if (!fieldPlan.hasDefault()) {
+                        field.set(instance, List.of());
                     }
-                    continue;
                 }
-
-                if (BaseModel.class.isAssignableFrom(field.getType())) {
+                case MODEL -> {
                     if (isParamAvailable) {
-                        field.set(instance, parameters[paramIndex]);
-                        paramIndex++;
-                    } else if (hasDefault) {
-                        field.set(instance, field.get(instance));
-                    } else if (!isOptional) {
-                        var generatedClass = generate(generatedModels, field.getType().asSubclass(BaseModel.class));
-                        field.set(instance, generatedClass);
-                    } else {
-                        field.set(instance, null);
+                        field.set(instance, parameters[fieldPlan.slot()]);
+                    } else if (!fieldPlan.hasDefault()) {
+                        field.set(instance, generate(generatedModels, fieldPlan.nestedType()));
                     }
                 }
+                case OTHER -> {
+                }
             }
-
-            return instance;
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
-            throw new IllegalStateException("Cannot generate test data", e);
         }
+
+        return instance;
     }
 
     /**
@@ -135,24 +107,19 @@ public final class TestDataGenerator {
      *
      * @return generated TestData instance
      */
-    @Step("Generate TestData with all nested BaseModel fields")
+    @UtilityStep("Generate TestData with all nested BaseModel fields")
     public static TestData generate() {
-        try {
-            var instance = TestData.class.getDeclaredConstructor().newInstance();
-            var generatedModels = new ArrayList<BaseModel>();
-            for (var field : TestData.class.getDeclaredFields()) {
-                field.setAccessible(true);
-                if (BaseModel.class.isAssignableFrom(field.getType())) {
-                    var generatedModel = generate(generatedModels, field.getType().asSubclass(BaseModel.class));
-                    field.set(instance, generatedModel);
-                    generatedModels.add(generatedModel);
-                }
-                field.setAccessible(false);
+        var plan = GenerationPlan.of(TestData.class);
+        var instance = (TestData) plan.newInstance();
+        var generatedModels = new ArrayList<BaseModel>();
+        for (var fieldPlan : plan.fields()) {
+            if (fieldPlan.kind() == GenerationPlan.Kind.MODEL) {
+                var generatedModel = generate(generatedModels, fieldPlan.nestedType());
+                fieldPlan.accessor().set(instance, generatedModel);
+                generatedModels.add(generatedModel);
             }
-            return instance;
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
-            throw new IllegalStateException("Cannot generate test data", e);
         }
+        return instance;
     }
 
     /**
@@ -163,7 +130,7 @@ public final class TestDataGenerator {
      * @param <T>            type extending BaseModel
      * @return generated model instance
      */
-    @Step("Generate model {generatorClass} with parameters")
+    @UtilityStep("Generate model {generatorClass} with parameters")
     public static <T extends BaseModel> T generate(Class<T> generatorClass, Object... parameters) {
         return generate(Collections.emptyList(), generatorClass, parameters);
     }
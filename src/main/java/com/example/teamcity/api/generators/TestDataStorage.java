@@ -1,52 +1,111 @@
 package com.example.teamcity.api.generators;
 
+import com.example.teamcity.api.annotations.UtilityStep;
 import com.example.teamcity.api.enums.ApiEndpoint;
+import com.example.teamcity.api.generators.cleanup.CleanupReport;
+import com.example.teamcity.api.generators.cleanup.EntityCleaner;
 import com.example.teamcity.api.models.BaseModel;
+import com.example.teamcity.api.models.Project;
+import com.example.teamcity.api.reflection.ClassAccessor;
 import com.example.teamcity.api.requests.unchecked.UncheckedBase;
 import com.example.teamcity.api.spec.request.RequestSpecs;
+import io.qameta.allure.Allure;
 import io.qameta.allure.Step;
 
 import java.util.EnumMap;
-import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 /**
- * Singleton class for storing created test data entities during test execution.
+ * Stores created test data entities during test execution.
  * <p>
  * Entities are tracked by their API endpoint and ID or locator, so they can be deleted afterward.
+ * <p>
+ * Each test invocation gets its own storage through {@link #openScope()} / {@link #closeScope()}, which binds it to the
+ * current thread. This keeps tests running in parallel from deleting each other's entities. Code running outside a
+ * scope (suite or class fixtures) falls back to a shared storage. All storages are safe for concurrent use.
  */
 public class TestDataStorage {
 
-    private static TestDataStorage testDataStorage;
-    private final EnumMap<ApiEndpoint, Set<String>> createdEntitiesMap;
+    private static final TestDataStorage SHARED_STORAGE = new TestDataStorage();
+    private static final ThreadLocal<TestDataStorage> SCOPED_STORAGE = new ThreadLocal<>();
+
+    private final Map<ApiEndpoint, Set<String>> createdEntitiesMap;
+    private final Map<String, String> projectParents;
 
     private TestDataStorage() {
-        createdEntitiesMap = new EnumMap<>(ApiEndpoint.class);
+        createdEntitiesMap = new ConcurrentHashMap<>();
+        projectParents = new ConcurrentHashMap<>();
     }
 
     /**
-     * Retrieves the singleton instance of the TestDataStorage.
+     * Retrieves the storage of the test running on the current thread, or the shared storage outside a test scope.
      *
      * @return instance of TestDataStorage
      */
     public static TestDataStorage getInstance() {
-        if (testDataStorage == null) {
-            testDataStorage = new TestDataStorage();
+        var scoped = SCOPED_STORAGE.get();
+        return scoped != null ? scoped : SHARED_STORAGE;
+    }
+
+    /**
+     * Binds a fresh storage to the current thread for the duration of one test invocation.
+     * Calling it again before {@link #closeScope()} keeps the already opened storage.
+     *
+     * @return storage of the current test invocation
+     */
+    public static TestDataStorage openScope() {
+        var scoped = SCOPED_STORAGE.get();
+        if (scoped == null) {
+            scoped = new TestDataStorage();
+            SCOPED_STORAGE.set(scoped);
+        }
+        return scoped;
+    }
+
+    /**
+     * Unbinds the test invocation storage from the current thread.
+     */
+    public static void closeScope() {
+        SCOPED_STORAGE.remove();
+    }
+
+    /**
+     * Runs a task with this storage bound to the current thread, e.g. on a worker thread serving a test.
+     * The previous binding of the thread is restored afterward.
+     *
+     * @param task task that may register created entities
+     * @param <V>  result type
+     * @return result of the task
+     */
+    public <V> V runInScope(Supplier<V> task) {
+        var previous = SCOPED_STORAGE.get();
+        SCOPED_STORAGE.set(this);
+        try {
+            return task.get();
+        } finally {
+            if (previous == null) {
+                SCOPED_STORAGE.remove();
+            } else {
+                SCOPED_STORAGE.set(previous);
+            }
         }
-        return testDataStorage;
     }
 
     /**
      * Adds a created entity ID to the internal storage for later deletion.
+     * The parent of a project added this way is read from the server before deletion, see {@link EntityCleaner}.
      *
      * @param apiEndpoint API endpoint associated with the entity
      * @param id          unique identifier of the entity
      */
-    @Step("Add created entity with ID '{id}' to storage under {apiEndpoint}")
+    @UtilityStep("Add created entity with ID '{id}' to storage under {apiEndpoint}")
     public void addCreatedEntity(ApiEndpoint apiEndpoint, String id) {
         if (id != null) {
-            createdEntitiesMap.computeIfAbsent(apiEndpoint, key -> new HashSet<>()).add(id);
+            createdEntitiesMap.computeIfAbsent(apiEndpoint, key -> ConcurrentHashMap.newKeySet()).add(id);
         }
     }
 
@@ -56,7 +115,7 @@ public class TestDataStorage {
      * @param apiEndpoint API endpoint associated with the entity
      * @param name        name used to find the entity
      */
-    @Step("Add created entity by name '{name}' under {apiEndpoint}")
+    @UtilityStep("Add created entity by name '{name}' under {apiEndpoint}")
     public void addCreatedEntityByName(ApiEndpoint apiEndpoint, String name) {
         if (name != null) {
             var uncheckedBase = new UncheckedBase(RequestSpecs.superUserAuthSpec(), apiEndpoint);
@@ -73,23 +132,10 @@ public class TestDataStorage {
      * @return ID or locator value
      */
     private String getEntityIdOrLocator(BaseModel model) {
-        try {
-            var idField = model.getClass().getDeclaredField("id");
-            idField.setAccessible(true);
-            var idFieldValue = Objects.toString(idField.get(model), null);
-            idField.setAccessible(false);
-            return idFieldValue;
-        } catch (NoSuchFieldException | IllegalAccessException e) {
-            try {
-                var locatorField = model.getClass().getDeclaredField("locator");
-                locatorField.setAccessible(true);
-                var locatorFieldValue = Objects.toString(locatorField.get(model), null);
-                locatorField.setAccessible(false);
-                return locatorFieldValue;
-            } catch (NoSuchFieldException | IllegalAccessException ex) {
-                throw new IllegalStateException("Cannot get id or locator of entity", e);
-            }
-        }
+        var accessor = ClassAccessor.of(model.getClass());
+        var field = accessor.field("id").or(() -> accessor.field("locator"))
+                .orElseThrow(() -> new IllegalStateException("Cannot get id or locator of entity " + model.getClass().getSimpleName()));
+        return Objects.toString(field.get(model), null);
     }
 
     /**
@@ -98,21 +144,35 @@ public class TestDataStorage {
      * @param apiEndpoint API endpoint associated with the entity
      * @param model       entity instance
      */
-    @Step("Add created entity by model under {apiEndpoint}")
+    @UtilityStep("Add created entity by model under {apiEndpoint}")
     public void addCreatedEntity(ApiEndpoint apiEndpoint, BaseModel model) {
-        addCreatedEntity(apiEndpoint, getEntityIdOrLocator(model));
+        var id = getEntityIdOrLocator(model);
+        addCreatedEntity(apiEndpoint, id);
+        if (id != null && model instanceof Project project
+                && project.getParentProject() != null && project.getParentProject().getId() != null) {
+            projectParents.put(id, project.getParentProject().getId());
+        }
     }
 
     /**
-     * Deletes all entities tracked in the storage.
+     * Deletes all entities tracked in the storage in dependency order, see {@link EntityCleaner}.
+     *
+     * @return per-endpoint timing and failure statistics of the cleanup
      */
     @Step("Delete all tracked created entities")
-    public void deleteCreatedEntities() {
-        createdEntitiesMap.forEach((endpoint, ids) ->
-                ids.forEach(id ->
-                        new UncheckedBase(RequestSpecs.superUserAuthSpec(), endpoint).delete(id)
-                )
-        );
-        createdEntitiesMap.clear();
+    public CleanupReport deleteCreatedEntities() {
+        var entities = new EnumMap<ApiEndpoint, Set<String>>(ApiEndpoint.class);
+        createdEntitiesMap.forEach((endpoint, ids) -> {
+            entities.put(endpoint, Set.copyOf(ids));
+            ids.removeAll(entities.get(endpoint));
+        });
+        var parents = Map.copyOf(projectParents);
+        projectParents.keySet().removeAll(parents.keySet());
+
+        var report = new EntityCleaner().deleteAll(entities, parents);
+        if (!report.isEmpty()) {
+            Allure.addAttachment("Cleanup report", report.toString());
+        }
+        return report;
     }
 }
@@ -0,0 +1,78 @@
+package com.example.teamcity.api.generators;
+
+import com.example.teamcity.api.config.Config;
+
+import java.time.Instant;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cheap source of unique IDs and random values for test data.
+ * <p>
+ * A unique ID is a per-JVM run prefix followed by an atomic counter, both in base 36. The prefix combines the JVM
+ * start time and the process ID, so IDs never repeat across threads, forked JVMs or consecutive runs.
+ * No clock reads, {@code SecureRandom} or locks are involved.
+ * <p>
+ * Random values come from a per-thread {@link SplittableRandom} derived from the run seed and a stable key: before each
+ * test, {@link #startStream(String)} keys it by the test invocation (method name, data provider parameters and
+ * invocation number), so every invocation gets its own values, the same whatever thread runs it and in whatever
+ * order. Outside of tests the stream is keyed by the thread name, which is reproducible only in serial runs. The seed
+ * ({@link #getSeed()}, printed once per suite) can be fixed with {@code random.seed} to reproduce the random data of a
+ * failing test.
+ */
+public final class UniqueIdSource {
+
+    private static final String RUN_PREFIX = runPrefix();
+    private static final AtomicLong COUNTER = new AtomicLong();
+    private static final long SEED = seed();
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final ThreadLocal<SplittableRandom> THREAD_RANDOM =
+            ThreadLocal.withInitial(() -> keyedRandom(Thread.currentThread().getName()));
+
+    private UniqueIdSource() {}
+
+    /**
+     * @return next unique ID of this run, made of lowercase letters, digits and an underscore
+     */
+    public static String nextId() {
+        return RUN_PREFIX + Long.toString(COUNTER.incrementAndGet(), Character.MAX_RADIX);
+    }
+
+    /**
+     * @return random generator of the current thread
+     */
+    public static SplittableRandom random() {
+        return THREAD_RANDOM.get();
+    }
+
+    /**
+     * Restarts the random generator of the current thread from the run seed and the key.
+     *
+     * @param key stable name of the work about to run, e.g. the qualified test method name with its parameters
+     */
+    public static void startStream(String key) {
+        THREAD_RANDOM.set(keyedRandom(key));
+    }
+
+    public static long getSeed() {
+        return SEED;
+    }
+
+    private static SplittableRandom keyedRandom(String key) {
+        return new SplittableRandom(SEED + GOLDEN_GAMMA * key.hashCode());
+    }
+
+    private static String runPrefix() {
+        long startMillis = ProcessHandle.current().info().startInstant()
+                .map(Instant::toEpochMilli)
+                .orElseGet(System::currentTimeMillis);
+        return Long.toString(startMillis, Character.MAX_RADIX)
+                + Long.toString(ProcessHandle.current().pid(), Character.MAX_RADIX)
+                + "_";
+    }
+
+    private static long seed() {
+        String seed = Config.getProperty("random.seed", null);
+        return seed != null ? Long.parseLong(seed) : System.nanoTime() ^ ProcessHandle.current().pid();
+    }
+}
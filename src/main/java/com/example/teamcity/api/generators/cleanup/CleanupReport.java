@@ -0,0 +1,76 @@
+package com.example.teamcity.api.generators.cleanup;
+
+import com.example.teamcity.api.enums.ApiEndpoint;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Per-endpoint statistics collected by {@link EntityCleaner} during one teardown run.
+ * <p>
+ * Records are added concurrently from the cleanup workers, so all mutators are synchronized.
+ */
+public class CleanupReport {
+
+    private final Map<ApiEndpoint, EndpointStats> stats = new EnumMap<>(ApiEndpoint.class);
+    private long wallTimeMillis;
+
+    synchronized void recordDeleted(ApiEndpoint endpoint, long millis) {
+        statsFor(endpoint).record(millis).deleted++;
+    }
+
+    synchronized void recordAbsent(ApiEndpoint endpoint, long millis) {
+        statsFor(endpoint).record(millis).absent++;
+    }
+
+    synchronized void recordFailed(ApiEndpoint endpoint, long millis) {
+        statsFor(endpoint).record(millis).failed++;
+    }
+
+    synchronized void recordCascaded(ApiEndpoint endpoint, int count) {
+        statsFor(endpoint).cascaded += count;
+    }
+
+    synchronized void setWallTimeMillis(long wallTimeMillis) {
+        this.wallTimeMillis = wallTimeMillis;
+    }
+
+    /**
+     * @return total number of delete requests that ended with an unexpected status or an exception
+     */
+    public synchronized int getFailedCount() {
+        return stats.values().stream().mapToInt(s -> s.failed).sum();
+    }
+
+    public synchronized boolean isEmpty() {
+        return stats.isEmpty();
+    }
+
+    private EndpointStats statsFor(ApiEndpoint endpoint) {
+        return stats.computeIfAbsent(endpoint, key -> new EndpointStats());
+    }
+
+    @Override
+    public synchronized String toString() {
+        var builder = new StringBuilder("Cleanup finished in %d ms%n".formatted(wallTimeMillis));
+        stats.forEach((endpoint, s) -> builder.append(
+                "  %-12s deleted=%d, absent=%d, cascaded=%d, failed=%d, requestTime=%d ms, slowest=%d ms%n"
+                        .formatted(endpoint, s.deleted, s.absent, s.cascaded, s.failed, s.totalMillis, s.maxMillis)));
+        return builder.toString();
+    }
+
+    private static final class EndpointStats {
+        private int deleted;
+        private int absent;
+        private int cascaded;
+        private int failed;
+        private long totalMillis;
+        private long maxMillis;
+
+        private EndpointStats record(long millis) {
+            totalMillis += millis;
+            maxMillis = Math.max(maxMillis, millis);
+            return this;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.teamcity.api.generators.cleanup;
+
+import com.example.teamcity.api.config.Config;
+import com.example.teamcity.api.enums.ApiEndpoint;
+import com.example.teamcity.api.requests.unchecked.UncheckedBase;
+import com.example.teamcity.api.spec.request.RequestSpecs;
+import io.restassured.specification.RequestSpecification;
+import org.apache.http.HttpStatus;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Deletes tracked test entities in dependency order, running independent deletes concurrently.
+ * <p>
+ * Users and build types are removed first, projects last. Projects are either removed with a single cascading
+ * delete of every topmost tracked ancestor ({@link ProjectStrategy#CASCADE}) or level by level starting from the
+ * deepest children ({@link ProjectStrategy#CHILDREN_FIRST}). The parent of a tracked project registered without one
+ * is read from the server first, so a child is never taken for a topmost project and deleted along with its parent.
+ * <p>
+ * Settings are read from {@code config.properties} or JVM properties:
+ * {@code cleanup.threads} (default 8) and {@code cleanup.projectStrategy} (default CASCADE).
+ */
+public class EntityCleaner {
+
+    /**
+     * Order in which tracked projects are removed.
+     */
+    public enum ProjectStrategy {
+        CASCADE,
+        CHILDREN_FIRST
+    }
+
+    private static final int DEFAULT_THREADS = 8;
+    private static final ExecutorService EXECUTOR = createExecutor(Config.getIntProperty("cleanup.threads", DEFAULT_THREADS));
+
+    private final ProjectStrategy projectStrategy;
+    private final RequestSpecification spec;
+
+    public EntityCleaner() {
+        this(ProjectStrategy.valueOf(Config.getProperty("cleanup.projectStrategy", ProjectStrategy.CASCADE.name())));
+    }
+
+    public EntityCleaner(ProjectStrategy projectStrategy) {
+        this(projectStrategy, RequestSpecs.superUserAuthSpec());
+    }
+
+    EntityCleaner(ProjectStrategy projectStrategy, RequestSpecification spec) {
+        this.projectStrategy = projectStrategy;
+        this.spec = spec;
+    }
+
+    /**
+     * Deletes the given entities.
+     *
+     * @param entities       IDs or locators of tracked entities grouped by endpoint
+     * @param projectParents parent project ID for each tracked project ID, where known
+     * @return timing and failure statistics of the run
+     */
+    public CleanupReport deleteAll(Map<ApiEndpoint, ? extends Collection<String>> entities, Map<String, String> projectParents) {
+        var report = new CleanupReport();
+        var start = System.currentTimeMillis();
+        var requests = new EnumMap<ApiEndpoint, UncheckedBase>(ApiEndpoint.class);
+        for (var endpoint : ApiEndpoint.values()) {
+            requests.put(endpoint, new UncheckedBase(spec, endpoint));
+        }
+
+        List<CompletableFuture<Void>> independent = new ArrayList<>();
+        entities.forEach((endpoint, ids) -> {
+            if (endpoint != ApiEndpoint.PROJECTS) {
+                ids.forEach(id -> independent.add(deleteAsync(requests.get(endpoint), endpoint, id, report)));
+            }
+        });
+        awaitAll(independent);
+
+        var trackedProjects = entities.get(ApiEndpoint.PROJECTS);
+        if (trackedProjects != null && !trackedProjects.isEmpty()) {
+            var projects = new HashSet<String>(trackedProjects);
+            var parents = resolveParents(projects, projectParents, requests.get(ApiEndpoint.PROJECTS));
+            for (var level : projectLevels(projects, parents, report)) {
+                awaitAll(level.stream()
+                        .map(id -> deleteAsync(requests.get(ApiEndpoint.PROJECTS), ApiEndpoint.PROJECTS, id, report))
+                        .toList());
+            }
+        }
+
+        report.setWallTimeMillis(System.currentTimeMillis() - start);
+        return report;
+    }
+
+    /**
+     * Completes the known parents with the parents of tracked projects registered by ID only, read from the server.
+     * A project whose parent cannot be read is treated as a topmost one.
+     */
+    private Map<String, String> resolveParents(Set<String> projects, Map<String, String> projectParents, UncheckedBase request) {
+        var parents = new ConcurrentHashMap<>(projectParents);
+        if (projects.size() < 2) {
+            return parents; // порядок удаления одного проекта не важен
+        }
+        awaitAll(projects.stream()
+                .filter(id -> !parents.containsKey(id))
+                .map(id -> CompletableFuture.runAsync(() -> {
+                    try {
+                        var response = request.read(id, "parentProjectId");
+                        var parent = response.getStatusCode() == HttpStatus.SC_OK
+                                ? response.jsonPath().getString("parentProjectId")
+                                : null;
+                        if (parent != null) {
+                            parents.put(id, parent);
+                        }
+                    } catch (RuntimeException e) {
+                        System.err.println("Cannot read parent of project '%s' before cleanup: %s".formatted(id, e.getMessage()));
+                    }
+                }, EXECUTOR))
+                .toList());
+        return parents;
+    }
+
+    /**
+     * Splits projects into batches that can be deleted concurrently, in the order the batches must run.
+     */
+    private List<List<String>> projectLevels(Set<String> projects, Map<String, String> projectParents, CleanupReport report) {
+        var levels = new TreeMap<Integer, List<String>>();
+        for (var id : projects) {
+            levels.computeIfAbsent(trackedDepth(id, projects, projectParents), key -> new ArrayList<>()).add(id);
+        }
+        if (projectStrategy == ProjectStrategy.CASCADE) {
+            var roots = levels.firstEntry().getValue();
+            report.recordCascaded(ApiEndpoint.PROJECTS, projects.size() - roots.size());
+            return List.of(roots);
+        }
+        return new ArrayList<>(levels.descendingMap().values());
+    }
+
+    /**
+     * Counts how many tracked ancestors a project has. Zero means the project is a topmost tracked ancestor.
+     */
+    private int trackedDepth(String id, Set<String> projects, Map<String, String> projectParents) {
+        var depth = 0;
+        var visited = new HashSet<String>();
+        var parent = projectParents.get(id);
+        while (parent != null && projects.contains(parent) && visited.add(parent)) {
+            depth++;
+            parent = projectParents.get(parent);
+        }
+        return depth;
+    }
+
+    private CompletableFuture<Void> deleteAsync(UncheckedBase request, ApiEndpoint endpoint, String id, CleanupReport report) {
+        return CompletableFuture.runAsync(() -> {
+            var start = System.currentTimeMillis();
+            try {
+                var statusCode = request.delete(id).getStatusCode();
+                var elapsed = System.currentTimeMillis() - start;
+                if (statusCode == HttpStatus.SC_NOT_FOUND) {
+                    report.recordAbsent(endpoint, elapsed);
+                } else if (statusCode >= HttpStatus.SC_BAD_REQUEST) {
+                    System.err.println("Cleanup of %s '%s' failed with status %d".formatted(endpoint, id, statusCode));
+                    report.recordFailed(endpoint, elapsed);
+                } else {
+                    report.recordDeleted(endpoint, elapsed);
+                }
+            } catch (RuntimeException e) {
+                System.err.println("Cleanup of %s '%s' failed: %s".formatted(endpoint, id, e.getMessage()));
+                report.recordFailed(endpoint, System.currentTimeMillis() - start);
+            }
+        }, EXECUTOR);
+    }
+
+    private static void awaitAll(List<CompletableFuture<Void>> futures) {
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+    }
+
+    private static ExecutorService createExecutor(int threads) {
+        var counter = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            var thread = new Thread(runnable, "entity-cleaner-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -1,8 +1,6 @@
 package com.example.teamcity.api.generators.domain;
 
-import io.qameta.allure.Step;
-
-import java.util.UUID;
+import com.example.teamcity.api.generators.UniqueIdSource;
 
 /**
  * Utility class for generating test data related to Build Types.
@@ -12,12 +10,11 @@ import java.util.UUID;
 public class BuildTypeTestData {
 
     /**
-     * Generates a unique Build Type name using a random UUID.
+     * Generates a unique Build Type name, see {@link UniqueIdSource}.
      *
-     * @return a unique Build Type name in the format: test_<random_string>
+     * @return a unique Build Type name in the format: test_<unique_id>
      */
-    @Step("Generate unique Build Type name")
     public static String buildTypeName() {
-        return "test_" + UUID.randomUUID().toString().substring(0, 8);
+        return "test_" + UniqueIdSource.nextId();
     }
 }
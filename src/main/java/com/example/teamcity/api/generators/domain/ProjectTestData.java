@@ -2,13 +2,14 @@ package com.example.teamcity.api.generators.domain;
 
 import com.example.teamcity.api.generators.RandomData;
 import com.example.teamcity.api.generators.TestDataGenerator;
+import com.example.teamcity.api.generators.UniqueIdSource;
 import com.example.teamcity.api.models.ParentProject;
 import com.example.teamcity.api.models.Project;
+import com.example.teamcity.api.reflection.ClassAccessor;
 import io.qameta.allure.Step;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
 
 /**
  * Utility class for generating test data related to TeamCity Projects.
@@ -16,13 +17,12 @@ import java.util.UUID;
 public class ProjectTestData {
 
     /**
-     * Generates a unique project ID using a random UUID.
+     * Generates a unique project ID, see {@link UniqueIdSource}.
      *
      * @return a unique project ID
      */
-    @Step("Generate unique project ID")
     public static String projectId() {
-        return "test_" + UUID.randomUUID().toString().substring(0, 8);
+        return "test_" + UniqueIdSource.nextId();
     }
 
     /**
@@ -134,6 +134,34 @@ public class ProjectTestData {
         return siblingProjects;
     }
 
+    /**
+     * Creates a balanced project tree: every project except the deepest ones has {@code fanOut} subprojects.
+     *
+     * @param parentId ID of the project the tree root is created under (e.g. "_Root")
+     * @param depth    number of levels, including the tree root
+     * @param fanOut   number of subprojects per project
+     * @return project tree with {@code 1 + fanOut + fanOut^2 + ... + fanOut^(depth - 1)} projects: {@code depth}
+     * projects for {@code fanOut == 1} and only the root for {@code fanOut == 0}
+     */
+    @Step("Create project tree of depth {depth} and fan-out {fanOut} under parent ID '{parentId}'")
+    public static ProjectTree projectTree(String parentId, int depth, int fanOut) {
+        if (depth < 1 || fanOut < 0) {
+            throw new IllegalArgumentException("Depth must be positive and fan-out cannot be negative");
+        }
+        ProjectTree root = new ProjectTree(siblingProjects(parentId, 1).get(0));
+        List<ProjectTree> level = List.of(root);
+        for (int i = 1; i < depth; i++) {
+            List<ProjectTree> nextLevel = new ArrayList<>();
+            for (ProjectTree node : level) {
+                for (int j = 0; j < fanOut; j++) {
+                    nextLevel.add(node.addChild(TestDataGenerator.generate(Project.class, RandomData.getUniqueName(), projectId())));
+                }
+            }
+            level = nextLevel;
+        }
+        return root;
+    }
+
     /**
      * Creates a list of projects with an exact value in a specified field.
      *
@@ -149,13 +177,9 @@ public class ProjectTestData {
             String projectId = RandomData.getUniqueId();
             Project project = new Project();
             project.setId(projectId);
-            try {
-                java.lang.reflect.Field classField = Project.class.getDeclaredField(field);
-                classField.setAccessible(true);
-                classField.set(project, exactValue);
-            } catch (NoSuchFieldException | IllegalAccessException e) {
-                throw new RuntimeException("Cannot set field " + field, e);
-            }
+            ClassAccessor.of(Project.class).field(field)
+                    .orElseThrow(() -> new RuntimeException("Cannot set field " + field))
+                    .set(project, exactValue);
             ParentProject parent = new ParentProject();
             parent.setId("_Root");
             project.setParentProject(parent);
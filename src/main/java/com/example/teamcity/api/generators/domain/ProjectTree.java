@@ -0,0 +1,66 @@
+package com.example.teamcity.api.generators.domain;
+
+import com.example.teamcity.api.models.ParentProject;
+import com.example.teamcity.api.models.Project;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Project hierarchy to be created in TeamCity: a project together with its subprojects.
+ * <p>
+ * Project IDs are assigned on the client side, so a child links to its parent by ID before either of them exists
+ * on the server.
+ */
+@Getter
+public class ProjectTree {
+
+    private final Project project;
+    private final List<ProjectTree> children = new ArrayList<>();
+
+    public ProjectTree(Project project) {
+        this.project = project;
+    }
+
+    /**
+     * Adds a subproject, pointing its parent to this node's project.
+     *
+     * @param child subproject model
+     * @return node of the added subproject
+     */
+    public ProjectTree addChild(Project child) {
+        child.setParentProject(new ParentProject(project.getId(), null));
+        ProjectTree node = new ProjectTree(child);
+        children.add(node);
+        return node;
+    }
+
+    public List<ProjectTree> getChildren() {
+        return Collections.unmodifiableList(children);
+    }
+
+    /**
+     * Groups projects by depth: the first level holds this node's project, the next one its children, and so on.
+     * Every project of a level has its parent in the previous level.
+     *
+     * @return projects level by level, breadth-first
+     */
+    public List<List<Project>> levels() {
+        List<List<Project>> levels = new ArrayList<>();
+        List<ProjectTree> level = List.of(this);
+        while (!level.isEmpty()) {
+            levels.add(level.stream().map(ProjectTree::getProject).toList());
+            level = level.stream().flatMap(node -> node.children.stream()).toList();
+        }
+        return levels;
+    }
+
+    /**
+     * @return total number of projects in the tree
+     */
+    public int size() {
+        return 1 + children.stream().mapToInt(ProjectTree::size).sum();
+    }
+}
@@ -2,9 +2,19 @@ package com.example.teamcity.api.helpers;
 
 import com.example.teamcity.api.enums.ApiEndpoint;
 import com.example.teamcity.api.models.BuildType;
+import com.example.teamcity.api.models.EntityRef;
 import com.example.teamcity.api.requests.CheckedRequest;
+import com.example.teamcity.api.requests.checked.CheckedBase;
+import com.example.teamcity.api.wait.BatchWaiter;
+import com.example.teamcity.api.wait.PollResult;
+import com.example.teamcity.api.wait.Poller;
+import com.example.teamcity.api.wait.PollingPolicy;
 import io.qameta.allure.Step;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+
 public class ApiBuildTypeHelper {
 
     private final CheckedRequest checkedRequest;
@@ -16,16 +26,12 @@ public class ApiBuildTypeHelper {
     @Step("Verify that no build type with name '{buildTypeName}' exists in project '{projectId}'")
     public boolean isBuildTypeWithNameAbsent(String buildTypeName, String projectId) {
         String locator = String.format("project:(id:%s),name:%s", projectId, buildTypeName);
-        return checkedRequest.<BuildType>getRequest(ApiEndpoint.BUILD_TYPES)
-                .findFirstEntityByLocatorQuery(locator)
-                .isEmpty();
+        return checkedRequest.<BuildType>getRequest(ApiEndpoint.BUILD_TYPES).countEntitiesByLocatorQuery(locator) == 0;
     }
 
     @Step("Verify that no build type with ID '{buildTypeId}' exists")
     public boolean isBuildTypeWithIdAbsent(String buildTypeId) {
-        return checkedRequest.<BuildType>getRequest(ApiEndpoint.BUILD_TYPES)
-                .findFirstEntityByLocatorQuery("id:" + buildTypeId)
-                .isEmpty();
+        return checkedRequest.<BuildType>getRequest(ApiEndpoint.BUILD_TYPES).countEntitiesByLocatorQuery("id:" + buildTypeId) == 0;
     }
 
     @Step("Wait for build type '{buildTypeName}' in project '{projectId}' to appear in API")
@@ -35,15 +41,28 @@ public class ApiBuildTypeHelper {
 
     public BuildType waitForBuildTypeInApi(String buildTypeName, String projectId, int timeoutSeconds) {
         String locator = String.format("project:(id:%s),name:%s", projectId, buildTypeName);
-        for (int i = 0; i < timeoutSeconds; i++) {
-            var maybeBuildType = checkedRequest.<BuildType>getRequest(ApiEndpoint.BUILD_TYPES)
-                    .findFirstEntityByLocatorQuery(locator);
-            if (maybeBuildType.isPresent()) return maybeBuildType.get();
-            try {
-                Thread.sleep(1000);
-            } catch (InterruptedException ignored) {
-            }
-        }
-        throw new RuntimeException("BuildType with name '" + buildTypeName + "' was not found in project '" + projectId + "' in API within " + timeoutSeconds + " seconds");
+        CheckedBase<BuildType> buildTypes = checkedRequest.getRequest(ApiEndpoint.BUILD_TYPES);
+        // Опрашиваем только id, полную сущность читаем один раз, когда она появилась
+        PollResult<EntityRef> result = Poller.poll(PollingPolicy.withTimeout(Duration.ofSeconds(timeoutSeconds)),
+                () -> buildTypes.findFirstEntityRefByLocatorQuery(locator));
+        EntityRef found = result.orElseThrow(() -> new RuntimeException("BuildType with name '" + buildTypeName + "' was not found in project '" + projectId + "' in API within " + timeoutSeconds + " seconds"));
+        return buildTypes.read(found.getId());
+    }
+
+    /**
+     * Waits for several build types of one project at once, polling a single union locator query per round.
+     *
+     * @param buildTypeNames names of the build types to wait for
+     * @param projectId      ID of the project containing them
+     * @param timeoutSeconds maximum wait time in seconds
+     * @return found build types by name, in the order of {@code buildTypeNames}
+     * @throws RuntimeException if some build types are not found within the timeout
+     */
+    @Step("Wait for build types {buildTypeNames} in project '{projectId}' to appear in API")
+    public Map<String, BuildType> waitForBuildTypesInApi(Collection<String> buildTypeNames, String projectId, int timeoutSeconds) {
+        return new BatchWaiter<>(checkedRequest.<BuildType>getRequest(ApiEndpoint.BUILD_TYPES),
+                "project:(id:%s)".formatted(projectId), "name", BuildType::getName)
+                .awaitAll(buildTypeNames, PollingPolicy.withTimeout(Duration.ofSeconds(timeoutSeconds)),
+                        "BuildTypes in project '" + projectId + "'");
     }
 }
@@ -1,18 +1,33 @@
 package com.example.teamcity.api.helpers;
 
+import com.example.teamcity.api.annotations.UtilityStep;
+import com.example.teamcity.api.config.Config;
 import com.example.teamcity.api.enums.ApiEndpoint;
 import com.example.teamcity.api.enums.Role;
+import com.example.teamcity.api.generators.domain.ProjectTree;
+import com.example.teamcity.api.models.EntityRef;
 import com.example.teamcity.api.models.ParentProject;
 import com.example.teamcity.api.models.Project;
 import com.example.teamcity.api.requests.CheckedRequest;
+import com.example.teamcity.api.requests.async.AsyncCheckedBase;
+import com.example.teamcity.api.requests.async.BulkResult;
+import com.example.teamcity.api.requests.checked.CheckedBase;
 import com.example.teamcity.api.responses.ResponseExtractor;
+import com.example.teamcity.api.wait.BatchWaiter;
+import com.example.teamcity.api.wait.PollResult;
+import com.example.teamcity.api.wait.Poller;
+import com.example.teamcity.api.wait.PollingPolicy;
 import io.qameta.allure.Step;
 import io.restassured.response.Response;
 import org.testng.asserts.SoftAssert;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
 
 /**
  * Helper class for working with TeamCity Projects via API.
@@ -21,6 +36,8 @@ import java.util.stream.Collectors;
  */
 public class ApiProjectHelper {
 
+    private static final int DEFAULT_BULK_PARALLELISM = Config.getIntProperty("bulk.parallelism", 8);
+
     public ApiProjectHelper() {
     }
 
@@ -74,9 +91,62 @@ public class ApiProjectHelper {
      */
     @Step("Create sibling projects")
     public List<Project> createSiblingProjects(CheckedRequest request, List<Project> siblings) {
-        return siblings.stream()
-                .map(project -> createProject(request, project))
-                .collect(Collectors.toList());
+        return createProjectsInParallel(request, siblings, DEFAULT_BULK_PARALLELISM).getResultsOrThrow();
+    }
+
+    /**
+     * Creates independent projects concurrently, with at most {@code parallelism} requests in flight.
+     * <p>
+     * Projects must not depend on each other (e.g. siblings). Requests run on the shared
+     * {@link com.example.teamcity.api.requests.async.AsyncRequestExecutor} pool; the calling thread submits the next
+     * one only when fewer than {@code parallelism} are in flight. A failed creation does not abort the batch; its
+     * cause is reported in the result at the project's index.
+     *
+     * @param request     request handler
+     * @param projects    list of projects to create
+     * @param parallelism maximum number of concurrent requests
+     * @return created projects in the order of {@code projects}, with per-item failures
+     */
+    @Step("Create projects in parallel with parallelism {parallelism}")
+    public BulkResult<Project> createProjectsInParallel(CheckedRequest request, List<Project> projects, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive, got " + parallelism);
+        }
+        if (projects.isEmpty()) {
+            return BulkResult.collect(List.of());
+        }
+        AsyncCheckedBase<Project> asyncRequest = request.getAsyncRequest(ApiEndpoint.PROJECTS);
+        Semaphore inFlight = new Semaphore(parallelism);
+        List<CompletableFuture<Project>> futures = new ArrayList<>(projects.size());
+        for (Project project : projects) {
+            try {
+                inFlight.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while creating projects, %d of %d submitted"
+                        .formatted(futures.size(), projects.size()), e);
+            }
+            futures.add(asyncRequest.create(project).whenComplete((created, error) -> inFlight.release()));
+        }
+        return BulkResult.collect(futures);
+    }
+
+    /**
+     * Creates a project tree breadth-first: projects of one depth are created concurrently once the previous depth
+     * exists. Creation stops at the first depth with a failed project, since its subprojects cannot be created.
+     *
+     * @param request     request handler
+     * @param tree        project hierarchy to create
+     * @param parallelism maximum number of concurrent requests within a depth
+     * @return created projects level by level
+     */
+    @Step("Create project tree breadth-first with parallelism {parallelism}")
+    public List<List<Project>> createProjectTree(CheckedRequest request, ProjectTree tree, int parallelism) {
+        List<List<Project>> created = new ArrayList<>();
+        for (List<Project> level : tree.levels()) {
+            created.add(createProjectsInParallel(request, level, parallelism).getResultsOrThrow());
+        }
+        return created;
     }
 
     /**
@@ -191,24 +261,35 @@ public class ApiProjectHelper {
      */
     @Step("Wait for project to appear in API: {projectName}")
     public Project waitForProjectInApi(CheckedRequest request, String projectName, int timeoutSeconds) {
-        for (int i = 0; i < timeoutSeconds; i++) {
-            var maybeProject = request.<Project>getRequest(ApiEndpoint.PROJECTS)
-                    .findFirstEntityByLocatorQuery("name:" + projectName);
-            if (maybeProject.isPresent()) return maybeProject.get();
-            try {
-                Thread.sleep(1000);
-            } catch (InterruptedException ignored) {
-            }
-        }
-        throw new RuntimeException("Project with name '" + projectName + "' was not found in API within " + timeoutSeconds + " seconds");
+        CheckedBase<Project> projects = request.getRequest(ApiEndpoint.PROJECTS);
+        // Опрашиваем только id, полную сущность читаем один раз, когда она появилась
+        PollResult<EntityRef> result = Poller.poll(PollingPolicy.withTimeout(Duration.ofSeconds(timeoutSeconds)),
+                () -> projects.findFirstEntityRefByLocatorQuery("name:" + projectName));
+        EntityRef found = result.orElseThrow(() -> new RuntimeException("Project with name '" + projectName + "' was not found in API within " + timeoutSeconds + " seconds"));
+        return projects.read(found.getId());
+    }
+
+    /**
+     * Waits for several projects at once, polling a single union locator query per round.
+     *
+     * @param request        request handler
+     * @param projectNames   names of the projects to wait for
+     * @param timeoutSeconds maximum wait time in seconds
+     * @return found projects by name, in the order of {@code projectNames}
+     * @throws RuntimeException if some projects are not found within the timeout
+     */
+    @Step("Wait for projects to appear in API: {projectNames}")
+    public Map<String, Project> waitForProjectsInApi(CheckedRequest request, Collection<String> projectNames, int timeoutSeconds) {
+        return new BatchWaiter<>(request.<Project>getRequest(ApiEndpoint.PROJECTS), null, "name", Project::getName)
+                .awaitAll(projectNames, PollingPolicy.withTimeout(Duration.ofSeconds(timeoutSeconds)), "Projects");
     }
 
-    @Step("Get role scope for project")
+    @UtilityStep("Get role scope for project")
     public String getRoleScope(Role role, String projectId) {
         return role == Role.AGENT_MANAGER ? "g" : projectId;
     }
 
-    @Step("Get parent project ID based on role")
+    @UtilityStep("Get parent project ID based on role")
     public String getParentProjectId(Role role, String projectId) {
         return role == Role.AGENT_MANAGER ? "_Root" : projectId;
     }
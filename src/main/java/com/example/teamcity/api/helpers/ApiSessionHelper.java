@@ -0,0 +1,47 @@
+package com.example.teamcity.api.helpers;
+
+import com.example.teamcity.api.enums.ApiEndpoint;
+import com.example.teamcity.api.models.User;
+import com.example.teamcity.api.spec.request.RequestSpecs;
+import io.qameta.allure.Step;
+import io.restassured.http.Cookie;
+import io.restassured.response.Response;
+import org.apache.http.HttpStatus;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static io.restassured.RestAssured.given;
+
+public final class ApiSessionHelper {
+
+    private static final String SESSION_COOKIE = "TCSESSIONID";
+
+    /**
+     * Opens a TeamCity web session for the user with a single authenticated API call.
+     * <p>
+     * The returned cookies (the session id and remember-me, if the server issues it) can be added to a browser to
+     * skip the login form.
+     *
+     * @param user TeamCity user with valid credentials
+     * @return session cookies by name
+     * @throws IllegalStateException if the server did not open a session
+     */
+    @Step("Open web session for user '{user.username}' via API")
+    public Map<String, String> openSession(User user) {
+        Response response = given()
+                .spec(RequestSpecs.authSpec(user))
+                .queryParam("fields", "id")
+                .get(ApiEndpoint.USERS.getUrl() + "/current");
+        response.then().assertThat().statusCode(HttpStatus.SC_OK);
+
+        Map<String, String> cookies = new LinkedHashMap<>();
+        for (Cookie cookie : response.getDetailedCookies()) {
+            cookies.put(cookie.getName(), cookie.getValue());
+        }
+        if (!cookies.containsKey(SESSION_COOKIE)) {
+            throw new IllegalStateException("No %s cookie in response for user '%s'".formatted(SESSION_COOKIE, user.getUsername()));
+        }
+        return cookies;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.teamcity.api.models;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+/**
+ * Облегченное представление любой сущности (проекта, билд конфигурации, пользователя), запрашивается через fields=
+ * для проверок существования и массовых выборок без полной сериализации на сервере
+ */
+@Builder
+@Data
+@EqualsAndHashCode(callSuper = false)
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class EntityRef extends BaseModel {
+    public static final String FIELDS = "id,name,parentProjectId,projectId";
+
+    private String id;
+    private String name;
+    private String parentProjectId;
+    private String projectId;
+}
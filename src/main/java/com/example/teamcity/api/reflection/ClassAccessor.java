@@ -0,0 +1,97 @@
+package com.example.teamcity.api.reflection;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Shared registry of constructor and field accessors, built once per class and cached in a {@link ClassValue}.
+ * <p>
+ * Used wherever models are populated or compared field by field: test data generation, validators and storage.
+ * Only declared instance fields are exposed, in declaration order.
+ */
+public final class ClassAccessor {
+
+    private static final ClassValue<ClassAccessor> ACCESSORS = new ClassValue<>() {
+        @Override
+        protected ClassAccessor computeValue(Class<?> type) {
+            return new ClassAccessor(type);
+        }
+    };
+
+    private final Class<?> type;
+    private final MethodHandle constructor;
+    private final List<FieldAccessor> fields;
+    private final Map<String, FieldAccessor> fieldsByName;
+
+    private ClassAccessor(Class<?> type) {
+        this.type = type;
+        try {
+            var lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+            this.constructor = findConstructor(lookup, type);
+            List<FieldAccessor> accessors = new ArrayList<>();
+            for (Field field : type.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    accessors.add(new FieldAccessor(field, lookup));
+                }
+            }
+            this.fields = List.copyOf(accessors);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot access members of " + type, e);
+        }
+        Map<String, FieldAccessor> byName = new LinkedHashMap<>();
+        fields.forEach(field -> byName.put(field.getName(), field));
+        this.fieldsByName = Map.copyOf(byName);
+    }
+
+    public static ClassAccessor of(Class<?> type) {
+        return ACCESSORS.get(type);
+    }
+
+    /**
+     * @return accessors of all declared instance fields, in declaration order
+     */
+    public List<FieldAccessor> fields() {
+        return fields;
+    }
+
+    /**
+     * @param name declared field name
+     * @return accessor of the field, or empty if the class declares no such instance field
+     */
+    public Optional<FieldAccessor> field(String name) {
+        return Optional.ofNullable(fieldsByName.get(name));
+    }
+
+    /**
+     * Creates an instance with the no-arg constructor.
+     *
+     * @return new instance
+     * @throws IllegalStateException if the class has no no-arg constructor or it fails
+     */
+    public Object newInstance() {
+        if (constructor == null) {
+            throw new IllegalStateException("No no-arg constructor in " + type);
+        }
+        try {
+            return constructor.invoke();
+        } catch (Throwable e) {
+            throw new IllegalStateException("Cannot instantiate " + type, e);
+        }
+    }
+
+    private static MethodHandle findConstructor(MethodHandles.Lookup lookup, Class<?> type) throws IllegalAccessException {
+        try {
+            return lookup.findConstructor(type, MethodType.methodType(void.class)).asType(MethodType.methodType(Object.class));
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
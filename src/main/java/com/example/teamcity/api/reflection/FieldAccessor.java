@@ -0,0 +1,86 @@
+package com.example.teamcity.api.reflection;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * Getter and setter of one instance field, backed by method handles resolved once.
+ * <p>
+ * Unlike {@link Field#get}/{@link Field#set}, calls skip access checks and are inlined by the JIT like a direct field
+ * access. Obtain instances from {@link ClassAccessor}.
+ */
+public final class FieldAccessor {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Field field;
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+
+    FieldAccessor(Field field, MethodHandles.Lookup lookup) throws IllegalAccessException {
+        this.field = field;
+        this.getter = lookup.unreflectGetter(field).asType(GETTER_TYPE);
+        this.setter = Modifier.isFinal(field.getModifiers()) ? null : lookup.unreflectSetter(field).asType(SETTER_TYPE);
+    }
+
+    public String getName() {
+        return field.getName();
+    }
+
+    public Class<?> getType() {
+        return field.getType();
+    }
+
+    /**
+     * @return underlying field, for reading its annotations and generic type
+     */
+    public Field getField() {
+        return field;
+    }
+
+    /**
+     * Reads the field value.
+     *
+     * @param target object to read from
+     * @return field value, boxed for primitive fields
+     */
+    public Object get(Object target) {
+        try {
+            return (Object) getter.invokeExact(target);
+        } catch (ClassCastException e) {
+            throw new IllegalArgumentException("Cannot read field '%s' of %s".formatted(getName(), target), e);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Writes the field value.
+     *
+     * @param target object to write to
+     * @param value  new value
+     * @throws IllegalArgumentException if the value is not assignable to the field type
+     * @throws IllegalStateException    if the field is final
+     */
+    public void set(Object target, Object value) {
+        if (setter == null) {
+            throw new IllegalStateException("Cannot set final field '%s'".formatted(getName()));
+        }
+        try {
+            setter.invokeExact(target, value);
+        } catch (ClassCastException e) {
+            throw new IllegalArgumentException("Cannot set field '%s' of type %s to %s"
+                    .formatted(getName(), getType().getSimpleName(), value), e);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
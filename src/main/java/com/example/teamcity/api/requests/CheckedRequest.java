@@ -1,9 +1,10 @@
 package com.example.teamcity.api.requests;
 
+import com.example.teamcity.api.annotations.UtilityStep;
 import com.example.teamcity.api.enums.ApiEndpoint;
 import com.example.teamcity.api.models.BaseModel;
+import com.example.teamcity.api.requests.async.AsyncCheckedBase;
 import com.example.teamcity.api.requests.checked.CheckedBase;
-import io.qameta.allure.Step;
 import io.restassured.specification.RequestSpecification;
 
 import java.util.EnumMap;
@@ -14,6 +15,7 @@ import java.util.EnumMap;
 public class CheckedRequest {
 
     private final EnumMap<ApiEndpoint, CheckedBase> requests = new EnumMap<>(ApiEndpoint.class);
+    private final EnumMap<ApiEndpoint, AsyncCheckedBase> asyncRequests = new EnumMap<>(ApiEndpoint.class);
 
     /**
      * Initializes checked requests for all available API endpoints using the provided specification.
@@ -23,6 +25,7 @@ public class CheckedRequest {
     public CheckedRequest(RequestSpecification spec) {
         for (var endpoint : ApiEndpoint.values()) {
             requests.put(endpoint, new CheckedBase(spec, endpoint));
+            asyncRequests.put(endpoint, new AsyncCheckedBase(spec, endpoint));
         }
     }
 
@@ -33,7 +36,7 @@ public class CheckedRequest {
      * @param <T>         expected model type
      * @return CheckedBase instance for the endpoint
      */
-    @Step("Get CheckedBase for {apiEndpoint}")
+    @UtilityStep("Get CheckedBase for {apiEndpoint}")
     public <T extends BaseModel> CheckedBase<T> getRequest(ApiEndpoint apiEndpoint) {
         return (CheckedBase<T>) requests.get(apiEndpoint);
     }
@@ -46,7 +49,7 @@ public class CheckedRequest {
      * @param <T>         model type
      * @return CheckedBase instance for the endpoint
      */
-    @Step("Get CheckedBase for {apiEndpoint} with validation against class {modelClass}")
+    @UtilityStep("Get CheckedBase for {apiEndpoint} with validation against class {modelClass}")
     public <T extends BaseModel> CheckedBase<T> getRequest(ApiEndpoint apiEndpoint, Class<T> modelClass) {
         CheckedBase<?> base = requests.get(apiEndpoint);
         if (!modelClass.isAssignableFrom(apiEndpoint.getModelClass())) {
@@ -54,4 +57,16 @@ public class CheckedRequest {
         }
         return (CheckedBase<T>) base;
     }
+
+    /**
+     * Returns a non-blocking AsyncCheckedBase for the specified API endpoint.
+     *
+     * @param apiEndpoint target endpoint
+     * @param <T>         expected model type
+     * @return AsyncCheckedBase instance for the endpoint
+     */
+    @UtilityStep("Get AsyncCheckedBase for {apiEndpoint}")
+    public <T extends BaseModel> AsyncCheckedBase<T> getAsyncRequest(ApiEndpoint apiEndpoint) {
+        return (AsyncCheckedBase<T>) asyncRequests.get(apiEndpoint);
+    }
 }
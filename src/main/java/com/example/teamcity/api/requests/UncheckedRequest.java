@@ -1,8 +1,8 @@
 package com.example.teamcity.api.requests;
 
+import com.example.teamcity.api.annotations.UtilityStep;
 import com.example.teamcity.api.enums.ApiEndpoint;
 import com.example.teamcity.api.requests.unchecked.UncheckedBase;
-import io.qameta.allure.Step;
 import io.restassured.specification.RequestSpecification;
 
 import java.util.EnumMap;
@@ -33,7 +33,7 @@ public class UncheckedRequest {
      * @param apiEndpoint TeamCity API endpoint
      * @return UncheckedBase instance for the given endpoint
      */
-    @Step("Get UncheckedBase for {apiEndpoint}")
+    @UtilityStep("Get UncheckedBase for {apiEndpoint}")
     public UncheckedBase getRequest(ApiEndpoint apiEndpoint) {
         return requests.get(apiEndpoint);
     }
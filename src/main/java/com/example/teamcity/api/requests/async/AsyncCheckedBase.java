@@ -0,0 +1,106 @@
+package com.example.teamcity.api.requests.async;
+
+import com.example.teamcity.api.enums.ApiEndpoint;
+import com.example.teamcity.api.models.BaseModel;
+import com.example.teamcity.api.requests.Request;
+import com.example.teamcity.api.requests.checked.CheckedBase;
+import com.example.teamcity.api.requests.interfaces.AsyncCrudInterface;
+import com.example.teamcity.api.requests.interfaces.AsyncSearchInterface;
+import com.example.teamcity.api.responses.ResponseExtractor;
+import io.restassured.specification.RequestSpecification;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Non-blocking wrapper over {@link CheckedBase}.
+ * <p>
+ * Each call is executed on {@link AsyncRequestExecutor}, so several requests can wait for the server at the same
+ * time. Status validation and {@code TestDataStorage} registration are exactly those of {@link CheckedBase}; a failed
+ * validation completes the future exceptionally.
+ *
+ * @param <T> type of the entity extending {@link BaseModel}
+ */
+public final class AsyncCheckedBase<T extends BaseModel> extends Request implements AsyncCrudInterface<T>, AsyncSearchInterface<T> {
+
+    private final CheckedBase<T> checkedBase;
+
+    public AsyncCheckedBase(RequestSpecification spec, ApiEndpoint apiEndpoint) {
+        super(spec, apiEndpoint);
+        this.checkedBase = new CheckedBase<>(spec, apiEndpoint);
+    }
+
+    /**
+     * Sends a POST request to create the entity, validates the response and registers the entity for cleanup.
+     *
+     * @param model entity to be created
+     * @return future completed with the created entity
+     */
+    @Override
+    public CompletableFuture<T> create(BaseModel model) {
+        return AsyncRequestExecutor.supply(() -> extractCreated(model));
+    }
+
+    /**
+     * Same as {@link #create(BaseModel)}, but runs on the given executor, e.g. one bounding the concurrency of a batch.
+     *
+     * @param model    entity to be created
+     * @param executor executor to run the request on
+     * @return future completed with the created entity
+     */
+    public CompletableFuture<T> create(BaseModel model, Executor executor) {
+        return AsyncRequestExecutor.supply(() -> extractCreated(model), executor);
+    }
+
+    @Override
+    public CompletableFuture<T> read(String id) {
+        return AsyncRequestExecutor.supply(() -> checkedBase.read(id));
+    }
+
+    @Override
+    public CompletableFuture<T> update(String id, BaseModel model) {
+        return AsyncRequestExecutor.supply(() -> checkedBase.update(id, model));
+    }
+
+    @Override
+    public CompletableFuture<String> delete(String id) {
+        return AsyncRequestExecutor.supply(() -> (String) checkedBase.delete(id));
+    }
+
+    @Override
+    public CompletableFuture<Optional<T>> findFirstEntityByLocatorQuery(String locator) {
+        return AsyncRequestExecutor.supply(() -> checkedBase.findFirstEntityByLocatorQuery(locator));
+    }
+
+    @Override
+    public CompletableFuture<List<T>> findEntitiesByLocatorQueryWithPagination(String locator) {
+        return AsyncRequestExecutor.supply(() -> checkedBase.findEntitiesByLocatorQueryWithPagination(locator));
+    }
+
+    @Override
+    public CompletableFuture<List<T>> findEntitiesByLocatorQueryWithPagination(String locator, int limit, int offset) {
+        return AsyncRequestExecutor.supply(() -> checkedBase.findEntitiesByLocatorQueryWithPagination(locator, limit, offset));
+    }
+
+    @Override
+    public CompletableFuture<List<T>> readEntitiesQueryWithPagination() {
+        return AsyncRequestExecutor.supply(checkedBase::readEntitiesQueryWithPagination);
+    }
+
+    @Override
+    public CompletableFuture<List<T>> readEntitiesQueryWithPagination(int limit, int offset) {
+        return AsyncRequestExecutor.supply(() -> checkedBase.readEntitiesQueryWithPagination(limit, offset));
+    }
+
+    @Override
+    public CompletableFuture<T> findEntityByPathParam(String pathParam) {
+        return AsyncRequestExecutor.supply(() -> checkedBase.findEntityByPathParam(pathParam));
+    }
+
+    @SuppressWarnings("unchecked")
+    private T extractCreated(BaseModel model) {
+        return ResponseExtractor.extractModel(checkedBase.create(model), (Class<T>) apiEndpoint.getModelClass());
+    }
+}
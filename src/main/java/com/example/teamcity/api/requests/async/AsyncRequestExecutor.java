@@ -0,0 +1,108 @@
+package com.example.teamcity.api.requests.async;
+
+import com.example.teamcity.api.aspects.StepTimings;
+import com.example.teamcity.api.config.Config;
+import com.example.teamcity.api.generators.TestDataStorage;
+import com.example.teamcity.api.spec.request.ExchangeLog;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.internal.AllureThreadContext;
+
+import java.lang.reflect.Field;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs blocking REST-assured calls on a bounded pool of daemon threads ({@code async.threads}, default 16).
+ * <p>
+ * The test context of the calling thread travels with each task: entities created by the task are registered in
+ * the caller's {@link TestDataStorage}, Allure steps are attached to the caller's test case, and utility step
+ * timings and HTTP exchanges are recorded in the caller's {@link StepTimings} and {@link ExchangeLog}. A task submitted
+ * outside of a test case runs with no Allure test case, and the worker gets its previous test case back afterwards.
+ */
+public final class AsyncRequestExecutor {
+
+    private static final int DEFAULT_THREADS = 16;
+    private static final ExecutorService EXECUTOR = createExecutor(Config.getIntProperty("async.threads", DEFAULT_THREADS));
+    private static final Field ALLURE_THREAD_CONTEXT = allureThreadContextField();
+
+    private AsyncRequestExecutor() {}
+
+    /**
+     * Runs the task on the shared request pool.
+     *
+     * @param task blocking request
+     * @param <V>  result type
+     * @return future completed with the task result
+     */
+    public static <V> CompletableFuture<V> supply(Supplier<V> task) {
+        return supply(task, EXECUTOR);
+    }
+
+    /**
+     * Runs the task on the given executor, propagating the test context of the calling thread.
+     *
+     * @param task     blocking request
+     * @param executor executor to run the task on
+     * @param <V>      result type
+     * @return future completed with the task result
+     */
+    public static <V> CompletableFuture<V> supply(Supplier<V> task, Executor executor) {
+        var storage = TestDataStorage.getInstance();
+        var testCase = Allure.getLifecycle().getCurrentTestCase();
+        var timings = StepTimings.current();
+        var exchangeLog = ExchangeLog.current();
+        return CompletableFuture.supplyAsync(() -> {
+            var lifecycle = Allure.getLifecycle();
+            var previous = lifecycle.getCurrentTestCase();
+            // Executor, выполняющий задачу в вызывающем потоке, уже в нужном тест-кейсе: его шаги не трогаем
+            boolean switched = !previous.equals(testCase);
+            if (switched) {
+                setCurrentTestCase(lifecycle, testCase);
+            }
+            try {
+                return ExchangeLog.runInScope(exchangeLog, () -> StepTimings.runInScope(timings, () -> storage.runInScope(task)));
+            } finally {
+                if (switched) {
+                    setCurrentTestCase(lifecycle, previous);
+                }
+            }
+        }, executor);
+    }
+
+    // Тест-кейс мог уже завершиться, тогда setCurrentTestCase его не найдет и не изменит контекст - сбрасываем сами
+    private static void setCurrentTestCase(AllureLifecycle lifecycle, Optional<String> testCase) {
+        if (testCase.isEmpty() || !lifecycle.setCurrentTestCase(testCase.get())) {
+            try {
+                ((AllureThreadContext) ALLURE_THREAD_CONTEXT.get(lifecycle)).clear();
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Cannot clear Allure context of thread " + Thread.currentThread().getName(), e);
+            }
+        }
+    }
+
+    // У AllureLifecycle нет публичного метода, сбрасывающего текущий тест-кейс потока
+    private static Field allureThreadContextField() {
+        try {
+            var field = AllureLifecycle.class.getDeclaredField("threadContext");
+            field.setAccessible(true);
+            return field;
+        } catch (NoSuchFieldException e) {
+            throw new IllegalStateException("Unsupported Allure version: AllureLifecycle has no threadContext", e);
+        }
+    }
+
+    private static ExecutorService createExecutor(int threads) {
+        var counter = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            var thread = new Thread(runnable, "async-request-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.teamcity.api.requests.async;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Outcome of a batch of independent requests, kept in the order the items were submitted.
+ * <p>
+ * A failed item does not abort the batch: its slot in {@link #getResults()} is {@code null} and its cause is
+ * available from {@link #getFailures()} by item index.
+ *
+ * @param <T> type of a single result
+ */
+public final class BulkResult<T> {
+
+    private final List<T> results;
+    private final Map<Integer, Throwable> failures;
+
+    private BulkResult(List<T> results, Map<Integer, Throwable> failures) {
+        this.results = Collections.unmodifiableList(results);
+        this.failures = Collections.unmodifiableMap(failures);
+    }
+
+    /**
+     * Waits for every future and collects results and failures in submission order.
+     *
+     * @param futures futures of the batch items
+     * @param <T>     type of a single result
+     * @return collected batch outcome
+     */
+    public static <T> BulkResult<T> collect(List<CompletableFuture<T>> futures) {
+        List<T> results = new ArrayList<>(futures.size());
+        Map<Integer, Throwable> failures = new TreeMap<>();
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                results.add(futures.get(i).join());
+            } catch (CompletionException e) {
+                results.add(null);
+                failures.put(i, e.getCause() != null ? e.getCause() : e);
+            }
+        }
+        return new BulkResult<>(results, failures);
+    }
+
+    /**
+     * @return results in submission order, {@code null} for failed items
+     */
+    public List<T> getResults() {
+        return results;
+    }
+
+    /**
+     * @return failure causes keyed by item index, in ascending index order
+     */
+    public Map<Integer, Throwable> getFailures() {
+        return failures;
+    }
+
+    public boolean hasFailures() {
+        return !failures.isEmpty();
+    }
+
+    /**
+     * Returns all results, or throws if any item failed.
+     *
+     * @return results in submission order
+     * @throws IllegalStateException if at least one item failed; every cause is attached as suppressed
+     */
+    public List<T> getResultsOrThrow() {
+        if (!hasFailures()) {
+            return results;
+        }
+        var exception = new IllegalStateException("%d of %d bulk items failed, first at index %d: %s".formatted(
+                failures.size(), results.size(), failures.keySet().iterator().next(), failures.values().iterator().next()));
+        failures.values().forEach(exception::addSuppressed);
+        throw exception;
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.teamcity.api.requests.cache;
+
+import com.example.teamcity.api.config.Config;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import org.apache.http.HttpStatus;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Makes repeated GET requests conditional when the server sends an {@code ETag}.
+ * <p>
+ * For every URL (per authenticated user) the last successful response and its {@code ETag} are remembered. The next
+ * GET of the same URL sends {@code If-None-Match}; on {@code 304 Not Modified} the remembered response, with its body
+ * already in memory, is returned instead of downloading the body again. {@code Last-Modified} is not used: its
+ * one-second resolution would hide changes made within the same second. Responses without {@code ETag} are passed
+ * through and not remembered.
+ * <p>
+ * A 304 returns the same {@code Response} object to every caller of the URL, so the filter is off by default, like
+ * {@link ResponseCache}; it suits polling suites that only read the entities.
+ * <p>
+ * Settings are read from {@code config.properties} or JVM properties:
+ * <ul>
+ *     <li>{@code http.conditionalGet.enabled} - turns conditional requests on (default false)</li>
+ *     <li>{@code http.conditionalGet.maxEntries} - URLs remembered before the least recently used is dropped (default 1000)</li>
+ * </ul>
+ */
+public final class ConditionalGetFilter implements Filter {
+
+    private static final ConditionalGetFilter INSTANCE = new ConditionalGetFilter(
+            Boolean.parseBoolean(Config.getProperty("http.conditionalGet.enabled", "false")),
+            Config.getIntProperty("http.conditionalGet.maxEntries", 1000));
+
+    private final boolean enabled;
+    private final Map<String, Validated> validated;
+    private final LongAdder notModified = new LongAdder();
+    private final LongAdder modified = new LongAdder();
+
+    /**
+     * Creates a filter with its own settings and remembered responses, e.g. to add to a single request specification.
+     *
+     * @param enabled    whether GET requests are made conditional
+     * @param maxEntries URLs remembered before the least recently used is dropped
+     */
+    public ConditionalGetFilter(boolean enabled, int maxEntries) {
+        this.enabled = enabled;
+        this.validated = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Validated> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public static ConditionalGetFilter getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        if (!enabled || !"GET".equals(requestSpec.getMethod())) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+        // Учетные данные входят в baseUri (см. RequestSpecs), поэтому ответы разных пользователей не смешиваются
+        String key = requestSpec.getBaseUri() + " " + requestSpec.getURI();
+        Validated previous;
+        synchronized (validated) {
+            previous = validated.get(key);
+        }
+        if (previous != null) {
+            requestSpec.header("If-None-Match", previous.etag);
+        }
+
+        Response response = ctx.next(requestSpec, responseSpec);
+        if (response.getStatusCode() == HttpStatus.SC_NOT_MODIFIED && previous != null) {
+            notModified.increment();
+            return previous.response;
+        }
+        modified.increment();
+        remember(key, response);
+        return response;
+    }
+
+    /**
+     * @return number of GET requests answered with 304 and served from the remembered response
+     */
+    public long getNotModifiedCount() {
+        return notModified.sum();
+    }
+
+    /**
+     * @return number of GET requests that downloaded a body
+     */
+    public long getModifiedCount() {
+        return modified.sum();
+    }
+
+    private void remember(String key, Response response) {
+        String etag = response.getHeader("ETag");
+        synchronized (validated) {
+            if (response.getStatusCode() == HttpStatus.SC_OK && etag != null) {
+                response.asByteArray(); // тело должно остаться в памяти для повторного использования
+                validated.put(key, new Validated(response, etag));
+            } else {
+                validated.remove(key);
+            }
+        }
+    }
+
+    private record Validated(Response response, String etag) {}
+}
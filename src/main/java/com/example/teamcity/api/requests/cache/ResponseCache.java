@@ -0,0 +1,145 @@
+package com.example.teamcity.api.requests.cache;
+
+import com.example.teamcity.api.config.Config;
+import com.example.teamcity.api.enums.ApiEndpoint;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.RequestSpecification;
+
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Optional read-through cache of successful lookup responses, shared by all request objects.
+ * <p>
+ * Entries are keyed by endpoint, request (path or locator) and auth identity, so users with different permissions
+ * never see each other's responses. Every create, update or delete invalidates the endpoint it touches; projects and
+ * build types invalidate each other, since their representations embed one another. Only responses that found
+ * something are cached, so waiting for an entity to appear always reaches the server.
+ * <p>
+ * Settings are read from {@code config.properties} or JVM properties:
+ * <ul>
+ *     <li>{@code cache.enabled} - turns the cache on (default false)</li>
+ *     <li>{@code cache.ttlSeconds} - time an entry stays valid (default 30)</li>
+ *     <li>{@code cache.maxEntries} - entries kept before the least recently used is evicted (default 500)</li>
+ * </ul>
+ */
+public final class ResponseCache {
+
+    private static final boolean ENABLED = Boolean.parseBoolean(Config.getProperty("cache.enabled", "false"));
+    private static final long TTL_NANOS = TimeUnit.SECONDS.toNanos(Config.getIntProperty("cache.ttlSeconds", 30));
+    private static final int MAX_ENTRIES = Config.getIntProperty("cache.maxEntries", 500);
+
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+    private static final LongAdder EVICTIONS = new LongAdder();
+    private static final LongAdder INVALIDATIONS = new LongAdder();
+
+    // LinkedHashMap в порядке доступа дает LRU-вытеснение; доступ только под synchronized (ENTRIES)
+    private static final Map<Key, Entry> ENTRIES = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+            if (size() > MAX_ENTRIES) {
+                EVICTIONS.increment();
+                return true;
+            }
+            return false;
+        }
+    };
+
+    private ResponseCache() {}
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Returns a fresh cached response for the request, or loads it and caches it if it is cacheable.
+     *
+     * @param spec        request specification, identifies the authenticated user
+     * @param apiEndpoint endpoint of the request
+     * @param request     path or locator identifying the request within the endpoint
+     * @param loader      sends the request
+     * @param cacheable   decides whether a loaded response may be cached
+     * @return cached or freshly loaded response
+     */
+    public static Response getOrLoad(RequestSpecification spec, ApiEndpoint apiEndpoint, String request,
+                                     Supplier<Response> loader, Predicate<Response> cacheable) {
+        if (!ENABLED) {
+            return loader.get();
+        }
+        var key = new Key(apiEndpoint, request, identity(spec));
+        synchronized (ENTRIES) {
+            var entry = ENTRIES.get(key);
+            if (entry != null && entry.expiresAt - System.nanoTime() > 0) {
+                HITS.increment();
+                return entry.response;
+            }
+            if (entry != null) {
+                ENTRIES.remove(key);
+            }
+        }
+        MISSES.increment();
+        var response = loader.get();
+        if (cacheable.test(response)) {
+            synchronized (ENTRIES) {
+                ENTRIES.put(key, new Entry(response, System.nanoTime() + TTL_NANOS));
+            }
+        }
+        return response;
+    }
+
+    /**
+     * Drops every cached response of the endpoint and of the endpoints embedding it.
+     *
+     * @param apiEndpoint endpoint whose entities were created, updated or deleted
+     */
+    public static void invalidate(ApiEndpoint apiEndpoint) {
+        if (!ENABLED) {
+            return;
+        }
+        var affected = affectedBy(apiEndpoint);
+        synchronized (ENTRIES) {
+            ENTRIES.keySet().removeIf(key -> affected.contains(key.apiEndpoint));
+        }
+        INVALIDATIONS.increment();
+    }
+
+    /**
+     * @return hit, miss, eviction and invalidation counters and the current size
+     */
+    public static String getStats() {
+        int size;
+        synchronized (ENTRIES) {
+            size = ENTRIES.size();
+        }
+        long hits = HITS.sum();
+        long lookups = hits + MISSES.sum();
+        return "hits=%d, misses=%d, hitRatio=%.1f%%, evictions=%d, invalidations=%d, size=%d".formatted(
+                hits, MISSES.sum(), lookups == 0 ? 0.0 : hits * 100.0 / lookups, EVICTIONS.sum(), INVALIDATIONS.sum(), size);
+    }
+
+    private static Set<ApiEndpoint> affectedBy(ApiEndpoint apiEndpoint) {
+        return switch (apiEndpoint) {
+            case PROJECTS, BUILD_TYPES -> EnumSet.of(ApiEndpoint.PROJECTS, ApiEndpoint.BUILD_TYPES);
+            case USERS -> EnumSet.of(ApiEndpoint.USERS);
+        };
+    }
+
+    private static String identity(RequestSpecification spec) {
+        // Учетные данные входят в baseUri (см. RequestSpecs), поэтому он однозначно определяет пользователя
+        return spec instanceof FilterableRequestSpecification filterable
+                ? filterable.getBaseUri()
+                : String.valueOf(System.identityHashCode(spec));
+    }
+
+    private record Key(ApiEndpoint apiEndpoint, String request, String identity) {}
+
+    private record Entry(Response response, long expiresAt) {}
+}
@@ -1,12 +1,16 @@
 package com.example.teamcity.api.requests.checked;
 
+import com.example.teamcity.api.annotations.UtilityStep;
 import com.example.teamcity.api.enums.ApiEndpoint;
 import com.example.teamcity.api.generators.TestDataStorage;
 import com.example.teamcity.api.models.BaseModel;
+import com.example.teamcity.api.models.EntityRef;
 import com.example.teamcity.api.requests.Request;
 import com.example.teamcity.api.requests.interfaces.CrudInterface;
 import com.example.teamcity.api.requests.interfaces.SearchInterface;
 import com.example.teamcity.api.requests.unchecked.UncheckedBase;
+import com.example.teamcity.api.responses.JsonListReader;
+import com.example.teamcity.api.responses.Page;
 import io.qameta.allure.Step;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
@@ -15,6 +19,10 @@ import org.apache.http.HttpStatus;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Wrapper for API requests with response validation.
@@ -32,7 +40,7 @@ public final class CheckedBase<T extends BaseModel> extends Request implements C
         this.uncheckedBase = new UncheckedBase(spec, apiEndpoint);
     }
 
-    @Step("Validate response for locator '{locator}'")
+    @UtilityStep("Validate response for locator '{locator}'")
     private void validateResponse(Response response, String locator) {
         response.then().assertThat().statusCode(HttpStatus.SC_OK);
         if (response.getBody().asString().isEmpty()) {
@@ -40,14 +48,24 @@ public final class CheckedBase<T extends BaseModel> extends Request implements C
         }
     }
 
-    @Step("Extract single entity from response")
+    @UtilityStep("Extract single entity from response")
     private T extractEntity(Response response) {
         return response.as((Class<T>) apiEndpoint.getModelClass());
     }
 
-    @Step("Extract entity list from response")
+    @UtilityStep("Extract entity list from response")
     private List<T> extractEntityList(Response response) {
-        return response.jsonPath().getList(apiEndpoint.getJsonListKey(), (Class<T>) apiEndpoint.getModelClass());
+        return JsonListReader.readList(response, apiEndpoint);
+    }
+
+    private Page<T> extractPage(Response response, String locator) {
+        validateResponse(response, locator);
+        return JsonListReader.readPage(response, apiEndpoint);
+    }
+
+    private Stream<T> stream(PageIterator<T> pages) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(pages, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(pages::close);
     }
 
 
@@ -81,6 +99,21 @@ public final class CheckedBase<T extends BaseModel> extends Request implements C
         return extractEntity(response);
     }
 
+    /**
+     * Sends a GET request to read only the given fields of the entity.
+     *
+     * @param id     entity ID
+     * @param fields comma-separated entity fields, e.g. {@link EntityRef#FIELDS}
+     * @return lightweight entity with the requested fields set
+     */
+    @Override
+    @Step("Read fields '{fields}' of entity by ID: {id}")
+    public EntityRef read(String id, String fields) {
+        Response response = uncheckedBase.read(id, fields);
+        validateResponse(response, id);
+        return response.as(EntityRef.class);
+    }
+
     /**
      * Sends a PUT request to update the entity and returns the updated version.
      *
@@ -124,6 +157,48 @@ public final class CheckedBase<T extends BaseModel> extends Request implements C
         return extractEntityList(response);
     }
 
+    /**
+     * Finds entities by locator, fetching only the given fields of each.
+     *
+     * @param locator locator string
+     * @param fields  comma-separated entity fields, e.g. {@link EntityRef#FIELDS}
+     * @param limit   max number of items
+     * @param offset  offset index
+     * @return list of lightweight entities
+     */
+    @Override
+    @Step("Find fields '{fields}' of entities by locator '{locator}' with limit={limit}, offset={offset}")
+    public List<EntityRef> findEntitiesByLocatorQueryWithFields(String locator, String fields, int limit, int offset) {
+        Response response = uncheckedBase.findEntitiesByLocatorQueryWithFields(locator, fields, limit, offset);
+        validateResponse(response, locator);
+        return JsonListReader.readList(response, apiEndpoint.getJsonListKey(), EntityRef.class);
+    }
+
+    /**
+     * Finds the first entity matching a locator, fetching only {@link EntityRef#FIELDS}.
+     *
+     * @param locator locator query
+     * @return optional lightweight entity if found
+     */
+    @Step("Find first entity reference by locator: {locator}")
+    public Optional<EntityRef> findFirstEntityRefByLocatorQuery(String locator) {
+        return findEntitiesByLocatorQueryWithFields(locator, EntityRef.FIELDS, 1, 0).stream().findFirst();
+    }
+
+    /**
+     * Counts entities matching a locator without transferring them.
+     *
+     * @param locator locator query
+     * @return number of matched entities
+     */
+    @Override
+    @Step("Count entities by locator: {locator}")
+    public Integer countEntitiesByLocatorQuery(String locator) {
+        Response response = uncheckedBase.countEntitiesByLocatorQuery(locator);
+        validateResponse(response, locator);
+        return JsonListReader.readCount(response);
+    }
+
     /**
      * Reads all entities with pagination.
      *
@@ -185,6 +260,35 @@ public final class CheckedBase<T extends BaseModel> extends Request implements C
         return extractEntityList(response);
     }
 
+    /**
+     * Lazily streams all entities matching the locator, requesting pages of {@code pageSize} on demand and following
+     * {@code nextHref}. The next page is prefetched in the background while the current one is consumed; close the
+     * stream if it is not consumed to the end.
+     *
+     * @param locator  locator query string
+     * @param pageSize number of entities per request
+     * @return ordered stream of entities
+     */
+    public Stream<T> streamEntitiesByLocator(String locator, int pageSize) {
+        return stream(new PageIterator<>(
+                () -> extractPage(uncheckedBase.findEntitiesByLocatorQueryWithPagination(locator, pageSize, 0), locator),
+                href -> extractPage(uncheckedBase.readByHref(href), href)));
+    }
+
+    /**
+     * Lazily streams all entities, requesting pages of {@code pageSize} on demand and following {@code nextHref}.
+     * The next page is prefetched in the background while the current one is consumed; close the stream if it is not
+     * consumed to the end.
+     *
+     * @param pageSize number of entities per request
+     * @return ordered stream of entities
+     */
+    public Stream<T> streamAllEntities(int pageSize) {
+        return stream(new PageIterator<>(
+                () -> extractPage(uncheckedBase.readEntitiesQueryWithPagination(pageSize, 0), "all"),
+                href -> extractPage(uncheckedBase.readByHref(href), href)));
+    }
+
     /**
      * Finds the first entity matching a locator query.
      *
@@ -195,7 +299,7 @@ public final class CheckedBase<T extends BaseModel> extends Request implements C
     public Optional<T> findFirstEntityByLocatorQuery(String locator) {
         Response response = uncheckedBase.findFirstEntityByLocatorQuery(locator);
         validateResponse(response, locator);
-        List<T> entities = response.jsonPath().getList(apiEndpoint.getJsonListKey(), (Class<T>) apiEndpoint.getModelClass());
+        List<T> entities = JsonListReader.readList(response, apiEndpoint);
         return entities.isEmpty() ? Optional.empty() : Optional.of(entities.get(0));
     }
 
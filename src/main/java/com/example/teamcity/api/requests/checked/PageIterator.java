@@ -0,0 +1,104 @@
+package com.example.teamcity.api.requests.checked;
+
+import com.example.teamcity.api.requests.async.AsyncRequestExecutor;
+import com.example.teamcity.api.responses.Page;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Lazy iterator over all pages of a TeamCity collection.
+ * <p>
+ * The first page is requested on the first {@link #hasNext()}. As soon as a page arrives, the page behind its
+ * {@code nextHref} is requested in the background, so it is usually ready by the time the current page is consumed.
+ * Iteration stops on a page without {@code nextHref}; a caller that stops early leaves at most one page prefetched,
+ * which {@link #close()} cancels.
+ * <p>
+ * Prefetches run on a pool of their own rather than the shared {@link AsyncRequestExecutor} pool: a stream consumed on
+ * an async worker waits for its prefetch, and with every worker waiting the prefetches queued behind them would never
+ * run. Each page fetch is an Allure step of the test that consumes the stream.
+ *
+ * @param <T> model type
+ */
+final class PageIterator<T> implements Iterator<T>, AutoCloseable {
+
+    private static final ExecutorService PREFETCH_EXECUTOR = createPrefetchExecutor();
+
+    private final Supplier<Page<T>> firstPage;
+    private final Function<String, Page<T>> pageByHref;
+    private Iterator<T> items = Collections.emptyIterator();
+    private CompletableFuture<Page<T>> nextPage;
+    private boolean started;
+
+    PageIterator(Supplier<Page<T>> firstPage, Function<String, Page<T>> pageByHref) {
+        this.firstPage = firstPage;
+        this.pageByHref = pageByHref;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!started) {
+            started = true;
+            accept(firstPage.get());
+        }
+        while (!items.hasNext() && nextPage != null) {
+            accept(await(nextPage));
+        }
+        return items.hasNext();
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return items.next();
+    }
+
+    @Override
+    public void close() {
+        if (nextPage != null) {
+            nextPage.cancel(false);
+            nextPage = null;
+        }
+    }
+
+    private void accept(Page<T> page) {
+        items = page.items().iterator();
+        nextPage = page.hasNext()
+                ? AsyncRequestExecutor.supply(() -> pageByHref.apply(page.nextHref()), PREFETCH_EXECUTOR)
+                : null;
+    }
+
+    private static <V> V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // Потоки создаются по мере надобности: префетч не ждет других задач, поэтому очередь за ним не встанет
+    private static ExecutorService createPrefetchExecutor() {
+        var counter = new AtomicInteger();
+        return Executors.newCachedThreadPool(runnable -> {
+            var thread = new Thread(runnable, "page-prefetch-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.teamcity.api.requests.interfaces;
+
+import com.example.teamcity.api.models.BaseModel;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of {@link CrudInterface}: every operation returns immediately with a future.
+ *
+ * @param <T> the type of entity handled by the endpoint
+ */
+public interface AsyncCrudInterface<T> {
+
+    /**
+     * Sends a POST request to create a new entity.
+     *
+     * @param model entity to create
+     * @return future completed with the created entity
+     */
+    CompletableFuture<T> create(BaseModel model);
+
+    /**
+     * Sends a GET request to read an entity by its ID.
+     *
+     * @param id identifier of the entity
+     * @return future completed with the found entity
+     */
+    CompletableFuture<T> read(String id);
+
+    /**
+     * Sends a PUT request to update an existing entity.
+     *
+     * @param id    identifier of the entity
+     * @param model updated entity data
+     * @return future completed with the updated entity
+     */
+    CompletableFuture<T> update(String id, BaseModel model);
+
+    /**
+     * Sends a DELETE request to remove an entity by ID.
+     *
+     * @param id identifier of the entity
+     * @return future completed with the response body
+     */
+    CompletableFuture<String> delete(String id);
+}
@@ -0,0 +1,63 @@
+package com.example.teamcity.api.requests.interfaces;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of {@link SearchInterface}: every lookup returns immediately with a future.
+ *
+ * @param <T> the type of entity returned by the endpoint
+ */
+public interface AsyncSearchInterface<T> {
+
+    /**
+     * Finds the first entity that matches the given locator query.
+     *
+     * @param locator locator query string
+     * @return future completed with the first matched entity, if any
+     */
+    CompletableFuture<Optional<T>> findFirstEntityByLocatorQuery(String locator);
+
+    /**
+     * Finds all entities matching the given locator query.
+     *
+     * @param locator locator query string
+     * @return future completed with the matched entities
+     */
+    CompletableFuture<List<T>> findEntitiesByLocatorQueryWithPagination(String locator);
+
+    /**
+     * Finds entities matching the locator with limit and offset (pagination).
+     *
+     * @param locator locator query string
+     * @param limit   maximum number of results to return
+     * @param offset  offset index for pagination
+     * @return future completed with the page of matched entities
+     */
+    CompletableFuture<List<T>> findEntitiesByLocatorQueryWithPagination(String locator, int limit, int offset);
+
+    /**
+     * Reads all entities without filtering (within default API limits).
+     *
+     * @return future completed with the entities
+     */
+    CompletableFuture<List<T>> readEntitiesQueryWithPagination();
+
+    /**
+     * Reads entities with pagination using limit and offset.
+     *
+     * @param limit  maximum number of results
+     * @param offset offset index for pagination
+     * @return future completed with the page of entities
+     */
+    CompletableFuture<List<T>> readEntitiesQueryWithPagination(int limit, int offset);
+
+    /**
+     * Finds a specific entity using a path parameter.
+     *
+     * @param pathParam path parameter (e.g., "name:Build")
+     * @return future completed with the found entity
+     */
+    CompletableFuture<T> findEntityByPathParam(String pathParam);
+}
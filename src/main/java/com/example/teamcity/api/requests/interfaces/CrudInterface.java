@@ -23,6 +23,16 @@ public interface CrudInterface {
      */
     Object read(String id);
 
+    /**
+     * Sends a GET request to read only the given fields of an entity (TeamCity {@code fields} parameter).
+     * Example: GET /app/rest/projects/MyProject?fields=id,name,parentProjectId
+     *
+     * @param id     identifier of the entity
+     * @param fields comma-separated entity fields
+     * @return response object or lightweight entity
+     */
+    Object read(String id, String fields);
+
     /**
      * Sends a PUT request to update an existing entity.
      *
@@ -34,6 +34,27 @@ public interface SearchInterface<T> {
      */
     Object findEntitiesByLocatorQueryWithPagination(String locator, int limit, int offset);
 
+    /**
+     * Finds entities matching the locator, returning only the given fields of each (TeamCity {@code fields} parameter).
+     * Example: ?locator=name:Project123&fields=count,nextHref,project(id,name)
+     *
+     * @param locator locator query string
+     * @param fields  comma-separated entity fields
+     * @param limit   maximum number of results to return
+     * @param offset  offset index for pagination
+     * @return paginated list of lightweight entities
+     */
+    Object findEntitiesByLocatorQueryWithFields(String locator, String fields, int limit, int offset);
+
+    /**
+     * Counts entities matching the locator without transferring them.
+     * Example: ?locator=name:Project123&fields=count
+     *
+     * @param locator locator query string
+     * @return number of matched entities
+     */
+    Object countEntitiesByLocatorQuery(String locator);
+
     /**
      * Reads all entities without filtering (within default API limits).
      *
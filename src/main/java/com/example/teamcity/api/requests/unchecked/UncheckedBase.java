@@ -3,14 +3,17 @@ package com.example.teamcity.api.requests.unchecked;
 import com.example.teamcity.api.enums.ApiEndpoint;
 import com.example.teamcity.api.models.BaseModel;
 import com.example.teamcity.api.requests.Request;
+import com.example.teamcity.api.requests.cache.ConditionalGetFilter;
+import com.example.teamcity.api.requests.cache.ResponseCache;
 import com.example.teamcity.api.requests.interfaces.CrudInterface;
 import com.example.teamcity.api.requests.interfaces.SearchInterface;
+import com.example.teamcity.api.responses.JsonListReader;
 import io.qameta.allure.Step;
 import io.restassured.RestAssured;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
+import org.apache.http.HttpStatus;
 
-import java.util.ArrayList;
 import java.util.List;
 
 public class UncheckedBase extends Request implements CrudInterface, SearchInterface {
@@ -22,20 +25,24 @@ public class UncheckedBase extends Request implements CrudInterface, SearchInter
     @Override
     @Step("Create entity: {model}")
     public Response create(BaseModel model) {
-        return RestAssured
+        Response response = RestAssured
                 .given()
                 .spec(spec)
                 .body(model)
                 .post(apiEndpoint.getUrl());
+        ResponseCache.invalidate(apiEndpoint);
+        return response;
     }
 
     @Step("Create entity from raw body")
     public Response create(String body) {
-        return RestAssured
+        Response response = RestAssured
                 .given()
                 .spec(spec)
                 .body(body)
                 .post(apiEndpoint.getUrl());
+        ResponseCache.invalidate(apiEndpoint);
+        return response;
     }
 
     @Override
@@ -44,39 +51,61 @@ public class UncheckedBase extends Request implements CrudInterface, SearchInter
         if (idOrLocator.contains(":")) {
             return findFirstEntityByLocatorQuery(idOrLocator);
         }
+        String path = apiEndpoint.getUrl() + "/" + idOrLocator;
+        return ResponseCache.getOrLoad(spec, apiEndpoint, path,
+                () -> RestAssured
+                        .given()
+                        .spec(spec)
+                        .filter(ConditionalGetFilter.getInstance())
+                        .get(path),
+                response -> response.getStatusCode() == HttpStatus.SC_OK);
+    }
+
+    @Override
+    @Step("Read fields '{fields}' of entity {idOrLocator}")
+    public Response read(String idOrLocator, String fields) {
         return RestAssured
                 .given()
                 .spec(spec)
+                .filter(ConditionalGetFilter.getInstance())
+                .queryParam("fields", fields)
                 .get(apiEndpoint.getUrl() + "/" + idOrLocator);
     }
 
     @Override
     @Step("Update entity with locator {locator}")
     public Response update(String locator, BaseModel model) {
-        return RestAssured
+        Response response = RestAssured
                 .given()
                 .spec(spec)
                 .body(model)
                 .put(apiEndpoint.getUrl() + "/" + locator);
+        ResponseCache.invalidate(apiEndpoint);
+        return response;
     }
 
     @Override
     @Step("Delete entity with locator {locator}")
     public Response delete(String locator) {
-        return RestAssured
+        Response response = RestAssured
                 .given()
                 .spec(spec)
                 .delete(apiEndpoint.getUrl() + "/" + locator);
+        ResponseCache.invalidate(apiEndpoint);
+        return response;
     }
 
     @Override
     @Step("Find first entity by locator: {locator}")
     public Response findFirstEntityByLocatorQuery(String locator) {
-        return RestAssured
-                .given()
-                .spec(spec)
-                .queryParam("locator", locator)
-                .get(apiEndpoint.getUrl());
+        return ResponseCache.getOrLoad(spec, apiEndpoint, "?locator=" + locator,
+                () -> RestAssured
+                        .given()
+                        .spec(spec)
+                        .filter(ConditionalGetFilter.getInstance())
+                        .queryParam("locator", locator)
+                        .get(apiEndpoint.getUrl()),
+                response -> response.getStatusCode() == HttpStatus.SC_OK && JsonListReader.readCount(response) > 0);
     }
 
     @Override
@@ -91,12 +120,39 @@ public class UncheckedBase extends Request implements CrudInterface, SearchInter
         return RestAssured
                 .given()
                 .spec(spec)
+                .filter(ConditionalGetFilter.getInstance())
                 .queryParam("locator", locator)
                 .queryParam("count", limit)
                 .queryParam("start", offset)
                 .get(apiEndpoint.getUrl());
     }
 
+    @Override
+    @Step("Find fields '{fields}' of entities by locator: {locator}, limit: {limit}, offset: {offset}")
+    public Response findEntitiesByLocatorQueryWithFields(String locator, String fields, int limit, int offset) {
+        return RestAssured
+                .given()
+                .spec(spec)
+                .filter(ConditionalGetFilter.getInstance())
+                .queryParam("locator", locator)
+                .queryParam("count", limit)
+                .queryParam("start", offset)
+                .queryParam("fields", "count,nextHref,%s(%s)".formatted(apiEndpoint.getJsonListKey(), fields))
+                .get(apiEndpoint.getUrl());
+    }
+
+    @Override
+    @Step("Count entities by locator: {locator}")
+    public Response countEntitiesByLocatorQuery(String locator) {
+        return RestAssured
+                .given()
+                .spec(spec)
+                .filter(ConditionalGetFilter.getInstance())
+                .queryParam("locator", locator)
+                .queryParam("fields", "count")
+                .get(apiEndpoint.getUrl());
+    }
+
     @Override
     @Step("Read all entities with default pagination")
     public Response readEntitiesQueryWithPagination() {
@@ -109,6 +165,7 @@ public class UncheckedBase extends Request implements CrudInterface, SearchInter
         return RestAssured
                 .given()
                 .spec(spec)
+                .filter(ConditionalGetFilter.getInstance())
                 .queryParam("count", limit)
                 .queryParam("start", offset)
                 .get(apiEndpoint.getUrl());
@@ -120,14 +177,23 @@ public class UncheckedBase extends Request implements CrudInterface, SearchInter
         return RestAssured
                 .given()
                 .spec(spec)
+                .filter(ConditionalGetFilter.getInstance())
                 .get(apiEndpoint.getUrl() + "/" + pathParam);
     }
 
+    @Step("Read page by link: {href}")
+    public Response readByHref(String href) {
+        return RestAssured
+                .given()
+                .spec(spec)
+                .filter(ConditionalGetFilter.getInstance())
+                .get(href);
+    }
+
     @Step("Find all entities by locator: {locator}, limit: {limit}, offset: {offset}")
     public <T extends BaseModel> List<T> findAllEntitiesByLocator(String locator, int limit, int offset) {
         Response response = findEntitiesByLocatorQueryWithPagination(locator, limit, offset);
-        List<T> entities = response.jsonPath().getList(apiEndpoint.getJsonListKey(), (Class<T>) apiEndpoint.getModelClass());
-        return entities != null ? entities : new ArrayList<>();
+        return JsonListReader.readList(response, apiEndpoint);
     }
 
 }
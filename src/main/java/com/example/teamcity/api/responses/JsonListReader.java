@@ -0,0 +1,177 @@
+package com.example.teamcity.api.responses;
+
+import com.example.teamcity.api.enums.ApiEndpoint;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.restassured.response.Response;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streaming reader of model lists from JSON responses.
+ * <p>
+ * Instead of building a GPath tree of the whole body and mapping it again, the body is scanned token by token and
+ * every element of the list array is bound directly to the model class. Readers are immutable and shared: one per
+ * {@link ApiEndpoint}, plus one per class for ad-hoc lists.
+ */
+public final class JsonListReader {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    private static final String NEXT_HREF = "nextHref";
+    private static final String COUNT = "count";
+    private static final Map<ApiEndpoint, ObjectReader> ENDPOINT_READERS = new EnumMap<>(ApiEndpoint.class);
+    private static final ClassValue<ObjectReader> CLASS_READERS = new ClassValue<>() {
+        @Override
+        protected ObjectReader computeValue(Class<?> type) {
+            return MAPPER.readerFor(type);
+        }
+    };
+
+    static {
+        for (ApiEndpoint apiEndpoint : ApiEndpoint.values()) {
+            ENDPOINT_READERS.put(apiEndpoint, MAPPER.readerFor(apiEndpoint.getModelClass()));
+        }
+    }
+
+    private JsonListReader() {}
+
+    /**
+     * Reads the {@link ApiEndpoint#getJsonListKey()} array of a collection response, e.g. {@code project} of
+     * {@code {"count":2,"project":[...]}}.
+     *
+     * @param response    collection response
+     * @param apiEndpoint endpoint the response came from
+     * @param <T>         model type of the endpoint
+     * @return models in response order, empty if the array is absent
+     */
+    public static <T> List<T> readList(Response response, ApiEndpoint apiEndpoint) {
+        return JsonListReader.<T>readPage(response, apiEndpoint).items();
+    }
+
+    /**
+     * Reads the {@code listKey} array of a collection response into an arbitrary class, e.g. a projection.
+     *
+     * @param response   collection response
+     * @param listKey    name of the top-level array field
+     * @param modelClass class of the array elements
+     * @param <T>        model type
+     * @return models in response order, empty if the array is absent
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> List<T> readList(Response response, String listKey, Class<T> modelClass) {
+        return (List<T>) read(response, CLASS_READERS.get(modelClass), listKey).items();
+    }
+
+    /**
+     * Reads the {@code count} of a collection response, e.g. one requested with {@code fields=count}.
+     *
+     * @param response collection response
+     * @return value of the top-level {@code count} field, 0 if absent
+     */
+    public static int readCount(Response response) {
+        try (JsonParser parser = MAPPER.getFactory().createParser(response.asByteArray())) {
+            if (parser.nextToken() == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    JsonToken value = parser.nextToken();
+                    if (COUNT.equals(field) && value == JsonToken.VALUE_NUMBER_INT) {
+                        return parser.getIntValue();
+                    }
+                    parser.skipChildren();
+                }
+            }
+            return 0;
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read count from response", e);
+        }
+    }
+
+    /**
+     * Reads one page of a collection response: the {@link ApiEndpoint#getJsonListKey()} array and {@code nextHref}.
+     *
+     * @param response    collection response
+     * @param apiEndpoint endpoint the response came from
+     * @param <T>         model type of the endpoint
+     * @return page with models in response order
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Page<T> readPage(Response response, ApiEndpoint apiEndpoint) {
+        return (Page<T>) read(response, ENDPOINT_READERS.get(apiEndpoint), apiEndpoint.getJsonListKey());
+    }
+
+    /**
+     * Reads a response whose body is a JSON array of models.
+     *
+     * @param response   response with an array body
+     * @param modelClass class of the array elements
+     * @param <T>        model type
+     * @return models in response order
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> List<T> readRootList(Response response, Class<T> modelClass) {
+        return (List<T>) read(response, CLASS_READERS.get(modelClass), null).items();
+    }
+
+    private static Page<Object> read(Response response, ObjectReader reader, String listKey) {
+        // asByteArray буферизует тело в ответе, поэтому после чтения оно остается доступно для логов и проверок
+        try (JsonParser parser = MAPPER.getFactory().createParser(response.asByteArray())) {
+            JsonToken root = parser.nextToken();
+            if (listKey == null) {
+                return new Page<>(root == JsonToken.START_ARRAY ? readElements(parser, reader) : new ArrayList<>(), null);
+            }
+            return root == JsonToken.START_OBJECT ? readObject(parser, reader, listKey) : new Page<>(new ArrayList<>(), null);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read list '%s' of %s from response"
+                    .formatted(listKey == null ? "." : listKey, reader.getValueType()), e);
+        }
+    }
+
+    /**
+     * Reads the list array and {@code nextHref} of a top-level object, skipping every other value unparsed.
+     */
+    private static Page<Object> readObject(JsonParser parser, ObjectReader reader, String listKey) throws IOException {
+        List<Object> items = new ArrayList<>();
+        String nextHref = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (listKey.equals(field) && value == JsonToken.START_ARRAY) {
+                items = readElements(parser, reader);
+            } else if (NEXT_HREF.equals(field) && value == JsonToken.VALUE_STRING) {
+                nextHref = parser.getText();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return new Page<>(items, nextHref);
+    }
+
+    /**
+     * Reads every element of an array up to its end: objects are bound to models and {@code null} stays {@code null},
+     * as with jsonPath.
+     *
+     * @throws IllegalStateException if an element is neither an object nor {@code null}
+     */
+    private static List<Object> readElements(JsonParser parser, ObjectReader reader) throws IOException {
+        List<Object> elements = new ArrayList<>();
+        for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+            if (token == JsonToken.START_OBJECT) {
+                elements.add(reader.readValue(parser));
+            } else if (token == JsonToken.VALUE_NULL) {
+                elements.add(null);
+            } else {
+                throw new IllegalStateException("Unexpected %s at element %d of a list of %s"
+                        .formatted(token, elements.size(), reader.getValueType()));
+            }
+        }
+        return elements;
+    }
+}
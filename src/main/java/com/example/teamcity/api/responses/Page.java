@@ -0,0 +1,17 @@
+package com.example.teamcity.api.responses;
+
+import java.util.List;
+
+/**
+ * One page of a TeamCity collection response.
+ *
+ * @param items    models of the page in response order
+ * @param nextHref server-relative link to the next page, {@code null} on the last page
+ * @param <T>      model type
+ */
+public record Page<T>(List<T> items, String nextHref) {
+
+    public boolean hasNext() {
+        return nextHref != null && !items.isEmpty();
+    }
+}
@@ -1,6 +1,6 @@
 package com.example.teamcity.api.responses;
 
-import io.qameta.allure.Step;
+import com.example.teamcity.api.annotations.UtilityStep;
 import io.restassured.response.Response;
 
 import java.util.List;
@@ -18,7 +18,7 @@ public class ResponseExtractor {
      * @param <T>        the type of the model
      * @return extracted model instance
      */
-    @Step("Extract single model of type {modelClass}")
+    @UtilityStep("Extract single model of type {modelClass}")
     public static <T> T extractModel(Response response, Class<T> modelClass) {
         return response.getBody().as(modelClass);
     }
@@ -31,8 +31,8 @@ public class ResponseExtractor {
      * @param <T>        the type of the model
      * @return list of extracted models
      */
-    @Step("Extract list of models of type {modelClass}")
+    @UtilityStep("Extract list of models of type {modelClass}")
     public static <T> List<T> extractModelList(Response response, Class<T> modelClass) {
-        return response.jsonPath().getList(".", modelClass);
+        return JsonListReader.readRootList(response, modelClass);
     }
 }
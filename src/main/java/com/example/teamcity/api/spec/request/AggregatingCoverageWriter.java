@@ -0,0 +1,215 @@
+package com.example.teamcity.api.spec.request;
+
+import com.example.teamcity.api.config.Config;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.viclovsky.swagger.coverage.CoverageOutputWriter;
+import com.github.viclovsky.swagger.coverage.FileSystemOutputWriter;
+import com.github.viclovsky.swagger.coverage.SwaggerCoverageUtils;
+import com.github.viclovsky.swagger.coverage.model.SwaggerCoverage2ModelJackson;
+import io.swagger.models.HttpMethod;
+import io.swagger.models.Operation;
+import io.swagger.models.Path;
+import io.swagger.models.Swagger;
+import io.swagger.v3.oas.models.OpenAPI;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.github.viclovsky.swagger.coverage.SwaggerCoverageConstants.OUTPUT_DIRECTORY;
+
+/**
+ * Swagger-coverage output writer that aggregates the recorded operations in memory instead of writing one file per
+ * HTTP exchange.
+ * <p>
+ * {@code SwaggerCoverageRestAssured} hands every exchange to {@link #write(Swagger)}, which only queues it; a single
+ * background thread serializes the operations and keeps only those that add coverage: an operation is dropped if the
+ * same path and method with the same parameters and response was already recorded and none of its parameter values
+ * is new. At most {@code coverage.maxExamplesPerParameter} (default 20) distinct values are kept per parameter, which
+ * covers enum values without keeping every locator of the run. {@link #flush()}, called after the suite and
+ * from a shutdown hook of the fork, writes the distinct operations to {@code target/swagger-coverage-output} as a few
+ * regular {@code <uuid>-coverage.json} files: each file holds every operation at most once per path and method, so the
+ * swagger-coverage report generator reads them like the per-exchange files.
+ * <p>
+ * All aggregation state is confined to the background thread, so the writer is safe under parallel test execution.
+ */
+public final class AggregatingCoverageWriter implements CoverageOutputWriter {
+
+    private static final java.nio.file.Path OUTPUT_PATH = Paths.get("target/" + OUTPUT_DIRECTORY);
+    private static final int MAX_EXAMPLES_PER_PARAMETER = Config.getIntProperty("coverage.maxExamplesPerParameter", 20);
+    private static final String EXAMPLE = "x-example";
+    private static final AggregatingCoverageWriter INSTANCE = new AggregatingCoverageWriter(OUTPUT_PATH, MAX_EXAMPLES_PER_PARAMETER);
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(INSTANCE::flush, "swagger-coverage-flush"));
+    }
+
+    private final ObjectMapper jsonMapper = SwaggerCoverage2ModelJackson.createJsonMapper();
+    private final java.nio.file.Path outputPath;
+    private final int maxExamplesPerParameter;
+    private final FileSystemOutputWriter openApiWriter;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(task -> {
+        var thread = new Thread(task, "swagger-coverage-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Доступ только из потока executor: ключ - спецификация без paths (host, schemes, ...), значение - ее операции
+    private final Map<String, Map<OperationKey, Variants>> operations = new LinkedHashMap<>();
+    private long received;
+
+    AggregatingCoverageWriter(java.nio.file.Path outputPath, int maxExamplesPerParameter) {
+        this.outputPath = outputPath;
+        this.maxExamplesPerParameter = maxExamplesPerParameter;
+        this.openApiWriter = new FileSystemOutputWriter(outputPath);
+    }
+
+    public static AggregatingCoverageWriter getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * @return output directory of the coverage files
+     */
+    public static java.nio.file.Path getOutputPath() {
+        return OUTPUT_PATH;
+    }
+
+    @Override
+    public void write(Swagger swagger) {
+        executor.execute(() -> add(swagger));
+    }
+
+    @Override
+    public void write(OpenAPI openAPI) {
+        executor.execute(() -> openApiWriter.write(openAPI));
+    }
+
+    /**
+     * Writes the operations aggregated since the previous flush and waits until they are on disk.
+     *
+     * @return summary of the written output
+     * @throws UncheckedIOException if the output cannot be written
+     */
+    public String flush() {
+        try {
+            return executor.submit(this::writeAggregated).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while writing swagger coverage", e);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException runtimeException
+                    ? runtimeException
+                    : new IllegalStateException("Cannot write swagger coverage", e.getCause());
+        }
+    }
+
+    private void add(Swagger swagger) {
+        received++;
+        var paths = swagger.getPaths();
+        swagger.setPaths(null);
+        var specOperations = operations.computeIfAbsent(toJson(swagger), spec -> new LinkedHashMap<>());
+        if (paths != null) {
+            paths.forEach((path, item) -> item.getOperationMap().forEach((method, operation) -> specOperations
+                    .computeIfAbsent(new OperationKey(path, method), key -> new Variants())
+                    .add(operation)));
+        }
+    }
+
+    private String writeAggregated() {
+        int distinct = 0;
+        int files = 0;
+        for (var spec : operations.entrySet()) {
+            int layers = spec.getValue().values().stream().mapToInt(variants -> variants.kept.size()).max().orElse(0);
+            // В одном файле у пути и метода может быть только одна операция, поэтому варианты раскладываются по файлам
+            for (int layer = 0; layer < layers; layer++) {
+                var swagger = fromJson(spec.getKey());
+                for (var entry : spec.getValue().entrySet()) {
+                    var variant = entry.getValue().kept.stream().skip(layer).findFirst();
+                    if (variant.isPresent()) {
+                        var path = swagger.getPath(entry.getKey().path());
+                        if (path == null) {
+                            path = new Path();
+                            swagger.path(entry.getKey().path(), path);
+                        }
+                        path.set(entry.getKey().method().name().toLowerCase(), variant.get());
+                        distinct++;
+                    }
+                }
+                writeFile(swagger);
+                files++;
+            }
+        }
+        var summary = "%d exchanges, %d distinct operations, %d files in %s".formatted(received, distinct, files, outputPath);
+        operations.clear();
+        received = 0;
+        return summary;
+    }
+
+    private void writeFile(Swagger swagger) {
+        try {
+            Files.createDirectories(outputPath);
+            jsonMapper.writeValue(outputPath.resolve(SwaggerCoverageUtils.generateJsonCoverageOutputName()).toFile(), swagger);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write swagger coverage to " + outputPath, e);
+        }
+    }
+
+    private String toJson(Object value) {
+        try {
+            return jsonMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize swagger coverage", e);
+        }
+    }
+
+    private Swagger fromJson(String json) {
+        try {
+            return jsonMapper.readValue(json, Swagger.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot deserialize swagger coverage", e);
+        }
+    }
+
+    private record OperationKey(String path, HttpMethod method) {}
+
+    /**
+     * Recorded variants of one path and method.
+     */
+    private final class Variants {
+        private final List<Operation> kept = new ArrayList<>();
+        private final Set<String> shapes = new HashSet<>();
+        private final Map<String, Set<String>> examples = new HashMap<>();
+
+        private void add(Operation operation) {
+            ObjectNode tree = jsonMapper.valueToTree(operation);
+            boolean adds = false;
+            for (var parameter : tree.withArray("parameters")) {
+                if (parameter instanceof ObjectNode node && node.has(EXAMPLE)) {
+                    var values = examples.computeIfAbsent(node.path("in").asText() + " " + node.path("name").asText(),
+                            name -> new HashSet<>());
+                    if (values.size() < maxExamplesPerParameter && values.add(node.get(EXAMPLE).toString())) {
+                        adds = true;
+                    }
+                    node.remove(EXAMPLE);
+                }
+            }
+            if (shapes.add(tree.toString()) || adds) {
+                kept.add(operation);
+            }
+        }
+    }
+}
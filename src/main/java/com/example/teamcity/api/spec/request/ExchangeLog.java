@@ -0,0 +1,167 @@
+package com.example.teamcity.api.spec.request;
+
+import com.example.teamcity.api.config.Config;
+import io.qameta.allure.Allure;
+import io.restassured.filter.Filter;
+import io.restassured.filter.log.RequestLoggingFilter;
+import io.restassured.filter.log.ResponseLoggingFilter;
+import io.restassured.response.Response;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * Logging of the REST calls, selected by {@code api.log.mode}:
+ * <ul>
+ *     <li>{@code always} - every request and response is printed to stdout as it happens</li>
+ *     <li>{@code failure} (default) - the last exchanges of each test are kept in memory and printed and attached to
+ *     Allure only when the test fails</li>
+ *     <li>{@code off} - nothing is logged</li>
+ * </ul>
+ * In the failure mode recording an exchange only stores references to the already buffered request and response;
+ * all formatting happens on failure. The buffer of a test keeps at most {@code api.log.bufferSize} exchanges
+ * (default 50) referencing at most {@code api.log.maxBufferBytes} of response bodies (default 4 MB), dropping the
+ * oldest first, and each printed body is cut to {@code api.log.maxBodyChars} (default 10000).
+ * <p>
+ * Like {@code TestDataStorage}, the buffer of a test is bound to the thread and travels with async requests.
+ */
+public final class ExchangeLog {
+
+    enum Mode { ALWAYS, FAILURE, OFF }
+
+    private static final Mode MODE = Mode.valueOf(Config.getProperty("api.log.mode", "failure").toUpperCase(Locale.ROOT));
+    private static final int BUFFER_SIZE = Config.getIntProperty("api.log.bufferSize", 50);
+    private static final long MAX_BUFFER_BYTES = Config.getIntProperty("api.log.maxBufferBytes", 4 * 1024 * 1024);
+    private static final int MAX_BODY_CHARS = Config.getIntProperty("api.log.maxBodyChars", 10_000);
+
+    private static final ThreadLocal<ExchangeLog> SCOPED = new ThreadLocal<>();
+    private static final Filter RECORDING_FILTER = (requestSpec, responseSpec, ctx) -> {
+        long start = System.nanoTime();
+        Response response = ctx.next(requestSpec, responseSpec);
+        var log = SCOPED.get();
+        if (log != null) {
+            log.add(new Exchange(requestSpec.getMethod(), requestSpec.getURI(), requestSpec.getBody(),
+                    response.getStatusLine(), response.asByteArray(), (System.nanoTime() - start) / 1_000_000));
+        }
+        return response;
+    };
+
+    private final Deque<Exchange> exchanges = new ArrayDeque<>();
+    private long bufferedBytes;
+    private int dropped;
+
+    private ExchangeLog() {}
+
+    /**
+     * @return logging filters of the configured mode, to be added to request specifications
+     */
+    public static List<Filter> filters() {
+        return switch (MODE) {
+            case ALWAYS -> List.of(new RequestLoggingFilter(), new ResponseLoggingFilter());
+            case FAILURE -> List.of(RECORDING_FILTER);
+            case OFF -> List.of();
+        };
+    }
+
+    /**
+     * Starts buffering the exchanges of the current test on this thread.
+     */
+    public static void openScope() {
+        SCOPED.set(MODE == Mode.FAILURE ? new ExchangeLog() : null);
+    }
+
+    /**
+     * Stops buffering; if the test failed, prints the buffered exchanges and attaches them to the Allure report.
+     *
+     * @param failed whether the test failed
+     */
+    public static void closeScope(boolean failed) {
+        var log = SCOPED.get();
+        SCOPED.remove();
+        if (failed && log != null) {
+            log.flush();
+        }
+    }
+
+    /**
+     * @return exchange buffer of the current test, or {@code null} outside a test scope
+     */
+    public static ExchangeLog current() {
+        return SCOPED.get();
+    }
+
+    /**
+     * Runs the task with the given exchange buffer bound to the current thread, restoring the previous binding after.
+     *
+     * @param log  exchange buffer to bind, may be {@code null}
+     * @param task task to run
+     * @param <V>  result type
+     * @return task result
+     */
+    public static <V> V runInScope(ExchangeLog log, Supplier<V> task) {
+        var previous = SCOPED.get();
+        SCOPED.set(log);
+        try {
+            return task.get();
+        } finally {
+            SCOPED.set(previous);
+        }
+    }
+
+    private synchronized void add(Exchange exchange) {
+        exchanges.addLast(exchange);
+        bufferedBytes += exchange.responseBody.length;
+        while (exchanges.size() > 1 && (exchanges.size() > BUFFER_SIZE || bufferedBytes > MAX_BUFFER_BYTES)) {
+            bufferedBytes -= exchanges.removeFirst().responseBody.length;
+            dropped++;
+        }
+    }
+
+    private synchronized void flush() {
+        if (exchanges.isEmpty()) {
+            return;
+        }
+        var text = new StringBuilder();
+        if (dropped > 0) {
+            text.append("... ").append(dropped).append(" earlier exchanges dropped").append(System.lineSeparator());
+        }
+        exchanges.forEach(exchange -> exchange.appendTo(text));
+        System.out.println(text);
+        Allure.addAttachment("HTTP exchanges", "text/plain", text.toString(), ".txt");
+    }
+
+    private record Exchange(String method, String uri, Object requestBody, String statusLine, byte[] responseBody,
+                            long millis) {
+
+        private void appendTo(StringBuilder text) {
+            text.append(">>> ").append(method).append(' ').append(withoutCredentials(uri)).append(System.lineSeparator());
+            if (requestBody != null) {
+                text.append(cut(requestBody instanceof byte[] bytes
+                        ? new String(bytes, StandardCharsets.UTF_8)
+                        : requestBody.toString())).append(System.lineSeparator());
+            }
+            text.append("<<< ").append(statusLine).append(" (").append(millis).append(" ms)")
+                    .append(System.lineSeparator());
+            if (responseBody.length > 0) {
+                text.append(cut(new String(responseBody, 0, Math.min(responseBody.length, MAX_BODY_CHARS * 4), StandardCharsets.UTF_8)))
+                        .append(System.lineSeparator());
+            }
+            text.append(System.lineSeparator());
+        }
+
+        private static String cut(String body) {
+            return body.length() <= MAX_BODY_CHARS
+                    ? body
+                    : body.substring(0, MAX_BODY_CHARS) + "... (truncated)";
+        }
+
+        // Учетные данные пользователей передаются в userinfo URI (см. RequestSpecs), в лог они попасть не должны
+        private static String withoutCredentials(String uri) {
+            return uri.replaceFirst("^([a-zA-Z][a-zA-Z0-9+.-]*://)[^/@]*@", "$1");
+        }
+    }
+}
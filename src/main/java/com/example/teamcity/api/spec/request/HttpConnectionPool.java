@@ -0,0 +1,100 @@
+package com.example.teamcity.api.spec.request;
+
+import com.example.teamcity.api.config.Config;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.filter.Filter;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keep-alive connection pool shared by every REST-assured request built from {@link RequestSpecs}.
+ * <p>
+ * REST-assured creates a new HTTP client per request; without a shared connection manager each of them opens its own
+ * TCP connection. Here every client leases sockets from one pool, so consecutive calls to the TeamCity server reuse
+ * them. Settings are read from {@code config.properties} or JVM properties:
+ * <ul>
+ *     <li>{@code http.pool.maxTotal} - maximum open connections (default 50)</li>
+ *     <li>{@code http.pool.maxPerRoute} - maximum open connections per host (default 20)</li>
+ *     <li>{@code http.pool.keepAliveSeconds} - keep-alive used when the server does not send one (default 30)</li>
+ *     <li>{@code http.pool.idleEvictSeconds} - idle time after which a connection is closed (default 30)</li>
+ * </ul>
+ */
+@SuppressWarnings("deprecation") // REST-assured 5 only accepts the HttpClient 4.x AbstractHttpClient API
+public final class HttpConnectionPool {
+
+    private static final PoolingClientConnectionManager CONNECTION_MANAGER = new PoolingClientConnectionManager();
+    private static final long KEEP_ALIVE_MILLIS = TimeUnit.SECONDS.toMillis(Config.getIntProperty("http.pool.keepAliveSeconds", 30));
+    private static final ConnectionKeepAliveStrategy KEEP_ALIVE_STRATEGY = (response, context) -> {
+        var serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+        return serverKeepAlive > 0 ? serverKeepAlive : KEEP_ALIVE_MILLIS;
+    };
+
+    private static final Filter RELEASE_CONNECTION_FILTER = (requestSpec, responseSpec, ctx) -> {
+        var response = ctx.next(requestSpec, responseSpec);
+        response.asByteArray();
+        return response;
+    };
+
+    static {
+        CONNECTION_MANAGER.setMaxTotal(Config.getIntProperty("http.pool.maxTotal", 50));
+        CONNECTION_MANAGER.setDefaultMaxPerRoute(Config.getIntProperty("http.pool.maxPerRoute", 20));
+        startIdleEviction(Config.getIntProperty("http.pool.idleEvictSeconds", 30));
+    }
+
+    private HttpConnectionPool() {}
+
+    /**
+     * Returns a REST-assured HTTP client configuration whose clients share the pool.
+     * Specifications using it must also add {@link #releaseConnectionFilter()}.
+     *
+     * @return HTTP client configuration to set on a request specification
+     */
+    public static HttpClientConfig httpClientConfig() {
+        return HttpClientConfig.httpClientConfig().httpClientFactory(() -> {
+            var client = new DefaultHttpClient(CONNECTION_MANAGER);
+            client.setKeepAliveStrategy(KEEP_ALIVE_STRATEGY);
+            return client;
+        });
+    }
+
+    /**
+     * Returns a filter that reads the whole response body as soon as it arrives.
+     * <p>
+     * REST-assured reads bodies lazily, and a connection returns to the pool only after its body is consumed.
+     * Without this filter, a response that is only checked for its status code (e.g. a delete) would keep its
+     * connection leased forever and eventually exhaust the pool.
+     *
+     * @return filter releasing the connection of every response back to the pool
+     */
+    public static Filter releaseConnectionFilter() {
+        return RELEASE_CONNECTION_FILTER;
+    }
+
+    /**
+     * Returns current pool usage: leased, pending (waiting for a connection), available (idle) and max connections.
+     *
+     * @return total pool statistics across all routes
+     */
+    public static PoolStats getTotalStats() {
+        return CONNECTION_MANAGER.getTotalStats();
+    }
+
+    private static void startIdleEviction(int idleEvictSeconds) {
+        ScheduledExecutorService evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "http-connection-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        evictor.scheduleWithFixedDelay(() -> {
+            CONNECTION_MANAGER.closeExpiredConnections();
+            CONNECTION_MANAGER.closeIdleConnections(idleEvictSeconds, TimeUnit.SECONDS);
+        }, idleEvictSeconds, idleEvictSeconds, TimeUnit.SECONDS);
+    }
+}
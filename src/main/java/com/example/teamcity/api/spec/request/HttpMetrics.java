@@ -0,0 +1,217 @@
+package com.example.teamcity.api.spec.request;
+
+import com.example.teamcity.api.config.Config;
+import com.example.teamcity.api.enums.ApiEndpoint;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Latency, payload size, status code and retry statistics of the TeamCity REST calls, per endpoint and HTTP method.
+ * <p>
+ * {@link #filter()} is installed on every specification of {@link RequestSpecs}. It runs closest to the wire, after
+ * logging and the other filters, so it measures the server round trip including the body download. Requests sent
+ * while {@link com.example.teamcity.api.wait.Poller} repeats a probe are counted as retries.
+ * <p>
+ * {@link #writeReport()} writes {@code http-metrics.json} and {@code http-metrics.csv} to {@code metrics.dir}
+ * (default {@code target}).
+ */
+public final class HttpMetrics {
+
+    private static final Map<String, EndpointStats> STATS = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Boolean> RETRYING = ThreadLocal.withInitial(() -> false);
+    private static final OrderedFilter FILTER = new MetricsFilter();
+
+    private HttpMetrics() {}
+
+    /**
+     * @return filter recording every request it sees
+     */
+    public static OrderedFilter filter() {
+        return FILTER;
+    }
+
+    /**
+     * Runs the task marking the requests it sends as retries of an earlier attempt.
+     *
+     * @param task repeated attempt
+     * @param <V>  result type
+     * @return task result
+     */
+    public static <V> V asRetry(Supplier<V> task) {
+        boolean previous = RETRYING.get();
+        RETRYING.set(true);
+        try {
+            return task.get();
+        } finally {
+            RETRYING.set(previous);
+        }
+    }
+
+    /**
+     * Writes the collected statistics as JSON and CSV, slowest p95 first.
+     *
+     * @return path of the JSON report
+     * @throws UncheckedIOException if the report cannot be written
+     */
+    public static Path writeReport() {
+        var rows = STATS.values().stream()
+                .map(EndpointStats::snapshot)
+                .sorted(Comparator.comparingDouble((Map<String, Object> row) -> (double) row.get("p95Ms")).reversed())
+                .toList();
+        var dir = Path.of(Config.getProperty("metrics.dir", "target"));
+        var json = dir.resolve("http-metrics.json");
+        try {
+            Files.createDirectories(dir);
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(json.toFile(), rows);
+            Files.writeString(dir.resolve("http-metrics.csv"), toCsv(rows), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write HTTP metrics report to " + dir, e);
+        }
+        return json;
+    }
+
+    private static String toCsv(List<Map<String, Object>> rows) {
+        var lines = new ArrayList<String>();
+        lines.add(String.join(",", EndpointStats.COLUMNS));
+        for (var row : rows) {
+            lines.add(Arrays.stream(EndpointStats.COLUMNS)
+                    .map(column -> row.get(column) instanceof Map<?, ?> map
+                            // статусы в одну ячейку: 200=10;404=1
+                            ? map.entrySet().stream().map(Object::toString).collect(Collectors.joining(";"))
+                            : String.valueOf(row.get(column)))
+                    .collect(Collectors.joining(",")));
+        }
+        return String.join(System.lineSeparator(), lines) + System.lineSeparator();
+    }
+
+    /**
+     * Groups a request path by its API endpoint, e.g. {@code /app/rest/projects/id:abc} to {@code /app/rest/projects/{locator}}.
+     */
+    static String endpointOf(String path) {
+        for (ApiEndpoint apiEndpoint : ApiEndpoint.values()) {
+            if (path.equals(apiEndpoint.getUrl())) {
+                return path;
+            }
+            if (path.startsWith(apiEndpoint.getUrl() + "/")) {
+                return apiEndpoint.getUrl() + "/{locator}";
+            }
+        }
+        return path;
+    }
+
+    /**
+     * Nearest-rank percentile: the smallest value with at least {@code quantile} of the values at or below it.
+     *
+     * @param sorted   values in ascending order, not empty
+     * @param quantile quantile between 0 and 1
+     */
+    static long percentile(long[] sorted, double quantile) {
+        return sorted[Math.max(0, (int) Math.ceil(quantile * sorted.length) - 1)];
+    }
+
+    private static final class MetricsFilter implements OrderedFilter {
+
+        @Override
+        public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                               FilterContext ctx) {
+            long start = System.nanoTime();
+            Response response = ctx.next(requestSpec, responseSpec);
+            int responseBytes = response.asByteArray().length;
+            long nanos = System.nanoTime() - start;
+
+            var key = requestSpec.getMethod() + " " + endpointOf(URI.create(requestSpec.getURI()).getPath());
+            STATS.computeIfAbsent(key, k -> new EndpointStats(requestSpec.getMethod(), k.substring(k.indexOf(' ') + 1)))
+                    .record(nanos, requestBytes(requestSpec.getBody()), responseBytes, response.getStatusCode(), RETRYING.get());
+            return response;
+        }
+
+        @Override
+        public int getOrder() {
+            return LOWEST_PRECEDENCE;
+        }
+
+        private static int requestBytes(Object body) {
+            if (body instanceof byte[] bytes) {
+                return bytes.length;
+            }
+            return body == null ? 0 : body.toString().getBytes(StandardCharsets.UTF_8).length;
+        }
+    }
+
+    private static final class EndpointStats {
+        private static final String[] COLUMNS = {"method", "endpoint", "count", "retries", "p50Ms", "p95Ms", "p99Ms",
+                "maxMs", "meanMs", "requestBytes", "responseBytes", "statusCodes"};
+
+        private final String method;
+        private final String endpoint;
+        private final Map<Integer, Long> statusCodes = new TreeMap<>();
+        private long[] latencies = new long[64];
+        private int count;
+        private long retries;
+        private long requestBytes;
+        private long responseBytes;
+
+        private EndpointStats(String method, String endpoint) {
+            this.method = method;
+            this.endpoint = endpoint;
+        }
+
+        private synchronized void record(long nanos, int requestSize, int responseSize, int statusCode, boolean retry) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+            requestBytes += requestSize;
+            responseBytes += responseSize;
+            statusCodes.merge(statusCode, 1L, Long::sum);
+            if (retry) {
+                retries++;
+            }
+        }
+
+        private synchronized Map<String, Object> snapshot() {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            var row = new LinkedHashMap<String, Object>();
+            row.put("method", method);
+            row.put("endpoint", endpoint);
+            row.put("count", count);
+            row.put("retries", retries);
+            row.put("p50Ms", millis(percentile(sorted, 0.50)));
+            row.put("p95Ms", millis(percentile(sorted, 0.95)));
+            row.put("p99Ms", millis(percentile(sorted, 0.99)));
+            row.put("maxMs", millis(sorted[count - 1]));
+            row.put("meanMs", millis(Arrays.stream(sorted).sum() / count));
+            row.put("requestBytes", requestBytes);
+            row.put("responseBytes", responseBytes);
+            row.put("statusCodes", new TreeMap<>(statusCodes));
+            return row;
+        }
+
+        private static double millis(long nanos) {
+            return Math.round(nanos / 1e3) / 1e3;
+        }
+    }
+}
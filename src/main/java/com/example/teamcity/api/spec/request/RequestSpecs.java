@@ -1,75 +1,126 @@
 package com.example.teamcity.api.spec.request;
 
+import com.example.teamcity.api.annotations.UtilityStep;
 import com.example.teamcity.api.config.Config;
 import com.example.teamcity.api.models.User;
+import com.github.viclovsky.swagger.coverage.CoverageOutputWriter;
 import com.github.viclovsky.swagger.coverage.FileSystemOutputWriter;
 import com.github.viclovsky.swagger.coverage.SwaggerCoverageRestAssured;
-import io.qameta.allure.Step;
 import io.restassured.builder.RequestSpecBuilder;
-import io.restassured.filter.log.RequestLoggingFilter;
-import io.restassured.filter.log.ResponseLoggingFilter;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.filter.Filter;
 import io.restassured.http.ContentType;
 import io.restassured.specification.RequestSpecification;
-import static com.github.viclovsky.swagger.coverage.SwaggerCoverageConstants.OUTPUT_DIRECTORY;
 
-import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * Provides reusable REST-assured request specifications for TeamCity API tests.
+ * <p>
+ * Specifications are built once and shared: one super user and one unauthenticated spec per JVM, and one spec per
+ * distinct user credential kept in a bounded LRU cache ({@code specs.userCacheSize}, default 64).
+ * All of them reuse the same filter instances and the keep-alive connections of {@link HttpConnectionPool}, and
+ * record their calls in {@link HttpMetrics}. Swagger coverage is aggregated by {@link AggregatingCoverageWriter}
+ * unless {@code coverage.aggregate=false}, which restores one file per exchange. Requests and responses are logged as configured in {@link ExchangeLog}.
  */
 public class RequestSpecs {
 
-    private static RequestSpecs spec;
+    private static final int DEFAULT_USER_CACHE_SIZE = 64;
+    private static final Map<String, RequestSpecification> USER_SPECS =
+            Collections.synchronizedMap(new LruCache<>(Config.getIntProperty("specs.userCacheSize", DEFAULT_USER_CACHE_SIZE)));
 
     private static RequestSpecBuilder reqBuilder() {
         return new RequestSpecBuilder()
-                .setBaseUri("http://" + Config.getProperty("host"))
-                .addFilter(new SwaggerCoverageRestAssured(new FileSystemOutputWriter(
-                        Paths.get("target/" + OUTPUT_DIRECTORY))))
+                .setBaseUri(Shared.BASE_URI)
+                .setConfig(Shared.CONFIG)
+                .addFilters(Shared.FILTERS)
                 .setContentType(ContentType.JSON)
-                .setAccept(ContentType.JSON)
-                .addFilters(List.of(new RequestLoggingFilter(), new ResponseLoggingFilter()));
+                .setAccept(ContentType.JSON);
     }
 
     /**
-     * Creates a request specification without authentication.
+     * Returns the shared request specification without authentication.
      *
      * @return unauthenticated request spec
      */
-    @Step("Build unauthenticated request specification")
+    @UtilityStep("Get unauthenticated request specification")
     public static RequestSpecification unauthSpec() {
-        return new RequestSpecBuilder()
-                .setBaseUri("http://" + Config.getProperty("host"))
-                .setContentType(ContentType.JSON)
-                .setAccept(ContentType.JSON)
-                .setRelaxedHTTPSValidation()
-                .addFilters(List.of(new RequestLoggingFilter(), new ResponseLoggingFilter()))
-                .build();
+        return Shared.UNAUTH_SPEC;
     }
 
     /**
-     * Creates a request specification using basic authentication with given user credentials.
+     * Returns the cached request specification using basic authentication with given user credentials.
      *
      * @param user TeamCity user
      * @return authenticated request spec
      */
-    @Step("Build request specification with user authentication")
+    @UtilityStep("Get request specification with user authentication")
     public static RequestSpecification authSpec(User user) {
-        var requestBuilder = reqBuilder();
-        requestBuilder.setBaseUri("http://%s:%s@%s".formatted(user.getUsername(), user.getPassword(), Config.getProperty("host")));
-        return requestBuilder.build();
+        return USER_SPECS.computeIfAbsent("%s:%s".formatted(user.getUsername(), user.getPassword()), credentials -> {
+            var requestBuilder = reqBuilder();
+            requestBuilder.setBaseUri("http://%s@%s".formatted(credentials, Shared.HOST));
+            return requestBuilder.build();
+        });
     }
 
     /**
-     * Creates a request specification using super user authentication token.
+     * Returns the shared request specification using super user authentication token.
      *
      * @return super user authenticated request spec
      */
-    @Step("Build request specification with super user token")
+    @UtilityStep("Get request specification with super user token")
     public static RequestSpecification superUserAuthSpec() {
-        var requestBuilder = reqBuilder();
-        requestBuilder.setBaseUri("http://:%s@%s".formatted(Config.getProperty("superUserToken"), Config.getProperty("host")));
-        return requestBuilder.build();
+        return Shared.SUPER_USER_SPEC;
+    }
+
+    // Built on first use, so loading RequestSpecs does not require the host to be configured
+    private static final class Shared {
+        private static final String HOST = Config.getProperty("host");
+        private static final String BASE_URI = "http://" + HOST;
+        private static final RestAssuredConfig CONFIG = RestAssuredConfig.config().httpClient(HttpConnectionPool.httpClientConfig());
+        private static final List<Filter> COMMON_FILTERS = Stream.<Stream<? extends Filter>>of(
+                Stream.of(HttpConnectionPool.releaseConnectionFilter()),
+                ExchangeLog.filters().stream(),
+                Stream.of(HttpMetrics.filter())).<Filter>flatMap(filters -> filters).toList();
+        private static final List<Filter> FILTERS = Stream.concat(
+                Stream.of(new SwaggerCoverageRestAssured(coverageWriter())),
+                COMMON_FILTERS.stream()).toList();
+
+        private static CoverageOutputWriter coverageWriter() {
+            return Boolean.parseBoolean(Config.getProperty("coverage.aggregate", "true"))
+                    ? AggregatingCoverageWriter.getInstance()
+                    : new FileSystemOutputWriter(AggregatingCoverageWriter.getOutputPath());
+        }
+
+        private static final RequestSpecification SUPER_USER_SPEC = reqBuilder()
+                .setBaseUri("http://:%s@%s".formatted(Config.getProperty("superUserToken"), HOST))
+                .build();
+
+        private static final RequestSpecification UNAUTH_SPEC = new RequestSpecBuilder()
+                .setBaseUri(BASE_URI)
+                .setConfig(CONFIG)
+                .setContentType(ContentType.JSON)
+                .setAccept(ContentType.JSON)
+                .setRelaxedHTTPSValidation()
+                .addFilters(COMMON_FILTERS)
+                .build();
+    }
+
+    private static final class LruCache<K, V> extends LinkedHashMap<K, V> {
+        private final int maxSize;
+
+        private LruCache(int maxSize) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            return size() > maxSize;
+        }
     }
 }
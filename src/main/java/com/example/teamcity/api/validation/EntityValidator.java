@@ -1,8 +1,10 @@
 package com.example.teamcity.api.validation;
 
+import com.example.teamcity.api.generators.GeneratedModels;
+import com.example.teamcity.api.reflection.ClassAccessor;
+import com.example.teamcity.api.reflection.FieldAccessor;
 import org.testng.asserts.SoftAssert;
 
-import java.lang.reflect.Field;
 import java.util.List;
 
 public class EntityValidator {
@@ -11,15 +13,25 @@ public class EntityValidator {
         validateAllEntityFieldsIgnoring(expected, actual, List.of(), softAssert);
     }
 
+    @SuppressWarnings("unchecked")
     public static <T> void validateAllEntityFieldsIgnoring(T expected, T actual, List<String> ignoredFields, SoftAssert softAssert) {
-        for (Field field : expected.getClass().getDeclaredFields()) {
-            field.setAccessible(true);
+        var comparator = GeneratedModels.comparator((Class<T>) expected.getClass());
+        if (comparator.isPresent() && expected.getClass().isInstance(actual)) {
+            comparator.get().compare(expected, actual, ignoredFields, softAssert);
+            return;
+        }
+        validateReflectively(expected, actual, ignoredFields, softAssert);
+    }
+
+    // Сравнение через reflection для классов без сгенерированного ModelComparator
+    static <T> void validateReflectively(T expected, T actual, List<String> ignoredFields, SoftAssert softAssert) {
+        for (FieldAccessor field : ClassAccessor.of(expected.getClass()).fields()) {
             if (ignoredFields.contains(field.getName())) continue;
             try {
                 Object expectedValue = field.get(expected);
                 Object actualValue = field.get(actual);
                 softAssert.assertEquals(actualValue, expectedValue, "Field '" + field.getName() + "' does not match");
-            } catch (IllegalAccessException e) {
+            } catch (IllegalArgumentException e) {
                 throw new RuntimeException(String.format(
                         "Failed to access field '%s' in class %s. Expected value: [%s], Actual value: [%s]",
                         field.getName(),
@@ -31,7 +43,7 @@ public class EntityValidator {
         }
     }
 
-    private static <T> String safeToString(Field field, T obj) {
+    private static <T> String safeToString(FieldAccessor field, T obj) {
         try {
             Object value = field.get(obj);
             return value != null ? value.toString() : "null";
@@ -0,0 +1,24 @@
+package com.example.teamcity.api.validation;
+
+import org.testng.asserts.SoftAssert;
+
+import java.util.List;
+
+/**
+ * Reflection-free field-by-field comparison of one model class, generated at compile time as
+ * {@code <Model>Comparator} next to the model. Used by {@link EntityValidator} when available.
+ *
+ * @param <T> compared model type
+ */
+public interface ModelComparator<T> {
+
+    /**
+     * Soft-asserts that every field of {@code actual} equals the same field of {@code expected}.
+     *
+     * @param expected      expected model
+     * @param actual        actual model
+     * @param ignoredFields names of the fields to skip
+     * @param softAssert    SoftAssert instance to accumulate assertions
+     */
+    void compare(T expected, T actual, List<String> ignoredFields, SoftAssert softAssert);
+}
@@ -1,9 +1,10 @@
 package com.example.teamcity.api.validation;
 
+import com.example.teamcity.api.reflection.ClassAccessor;
+import com.example.teamcity.api.reflection.FieldAccessor;
 import io.qameta.allure.Step;
 import org.testng.asserts.SoftAssert;
 
-import java.lang.reflect.Field;
 import java.util.List;
 
 /**
@@ -50,8 +51,8 @@ public class SearchValidator {
     @Step("Validate single search result for entity type: {entityType}")
     public static <T> void validateSearchResult(T expected, T actual, String entityType, String identifierField, List<String> ignoredFields, SoftAssert softAssert) {
         try {
-            Field field = expected.getClass().getDeclaredField(identifierField);
-            field.setAccessible(true);
+            FieldAccessor field = ClassAccessor.of(expected.getClass()).field(identifierField)
+                    .orElseThrow(() -> new IllegalArgumentException("No field '%s' in %s".formatted(identifierField, expected.getClass().getSimpleName())));
             Object expectedId = field.get(expected);
 
             softAssert.assertNotNull(
@@ -62,7 +63,7 @@ public class SearchValidator {
             EntityValidator.validateAllEntityFieldsIgnoring(expected, actual, ignoredFields, softAssert);
             softAssert.assertAll();
 
-        } catch (NoSuchFieldException | IllegalAccessException e) {
+        } catch (IllegalArgumentException e) {
             throw new RuntimeException(String.format(
                     "Failed to validate %s by field '%s'. Reason: %s",
                     entityType, identifierField, e.getMessage()
@@ -0,0 +1,87 @@
+package com.example.teamcity.api.wait;
+
+import com.example.teamcity.api.models.BaseModel;
+import com.example.teamcity.api.requests.checked.CheckedBase;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Waits for several entities of one endpoint at once, with one locator query per polling round.
+ * <p>
+ * Every round asks only for the keys still missing, combined into a TeamCity union locator
+ * {@code item:(<base>,<dimension>:($base64:<key1>)),item:(<base>,<dimension>:($base64:<key2>)),...}; the keys are
+ * base64url-encoded, so names with commas, colons or parentheses do not break the locator. The result is read page by
+ * page, since the same key may match several entities. Instead of one polling stream per entity, the server sees a
+ * single one, whose queries shrink as entities appear.
+ *
+ * @param <T> type of the awaited entities
+ */
+public class BatchWaiter<T extends BaseModel> {
+
+    private static final int MIN_PAGE_SIZE = 100;
+
+    private final CheckedBase<T> request;
+    private final String baseLocator;
+    private final String dimension;
+    private final Function<T, String> keyExtractor;
+
+    /**
+     * @param request      request used to search the entities
+     * @param baseLocator  locator part shared by all entities, e.g. {@code project:(id:X)}, or {@code null}
+     * @param dimension    locator dimension holding the key, e.g. {@code name} or {@code id}
+     * @param keyExtractor returns the key of a found entity, matching {@code dimension}
+     */
+    public BatchWaiter(CheckedBase<T> request, String baseLocator, String dimension, Function<T, String> keyExtractor) {
+        this.request = request;
+        this.baseLocator = baseLocator;
+        this.dimension = dimension;
+        this.keyExtractor = keyExtractor;
+    }
+
+    /**
+     * Polls until every key is found.
+     *
+     * @param keys        expected keys (names or IDs)
+     * @param policy      polling timing
+     * @param description what is awaited, used in the timeout message
+     * @return entities by key, in the order of {@code keys}
+     * @throws RuntimeException if some keys are still missing when the policy timeout elapses
+     */
+    public Map<String, T> awaitAll(Collection<String> keys, PollingPolicy policy, String description) {
+        Map<String, T> found = new LinkedHashMap<>();
+        PollResult<Boolean> result = Poller.poll(policy, () -> {
+            List<String> missing = missing(keys, found);
+            try (var entities = request.streamEntitiesByLocator(unionLocator(missing), Math.max(missing.size(), MIN_PAGE_SIZE))) {
+                entities.forEach(entity -> found.put(keyExtractor.apply(entity), entity));
+            }
+            return found.keySet().containsAll(keys) ? Optional.of(true) : Optional.empty();
+        });
+        if (!result.isSuccessful()) {
+            throw new RuntimeException("%s were not found in API within %d seconds: missing %s (%s)".formatted(
+                    description, policy.getTimeout().toSeconds(), String.join(", ", missing(keys, found)), result));
+        }
+        Map<String, T> ordered = new LinkedHashMap<>();
+        keys.forEach(key -> ordered.put(key, found.get(key)));
+        return ordered;
+    }
+
+    private static List<String> missing(Collection<String> keys, Map<String, ?> found) {
+        return keys.stream().filter(key -> !found.containsKey(key)).toList();
+    }
+
+    private String unionLocator(List<String> keys) {
+        String prefix = baseLocator == null ? "" : baseLocator + ",";
+        return keys.stream()
+                .map(key -> "item:(%s%s:($base64:%s))".formatted(prefix, dimension,
+                        Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8))))
+                .collect(Collectors.joining(","));
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.teamcity.api.wait;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Outcome of a {@link Poller} run: the awaited value (empty on timeout), number of attempts and time spent.
+ *
+ * @param <T> type of the awaited value
+ */
+@Getter
+@AllArgsConstructor
+public class PollResult<T> {
+
+    private final Optional<T> value;
+    private final int attempts;
+    private final Duration elapsed;
+
+    public boolean isSuccessful() {
+        return value.isPresent();
+    }
+
+    /**
+     * Returns the awaited value, or throws the given exception if polling timed out.
+     *
+     * @param exceptionSupplier exception to throw on timeout
+     * @param <X>               exception type
+     * @return awaited value
+     * @throws X if the value did not appear within the timeout
+     */
+    public <X extends RuntimeException> T orElseThrow(Supplier<X> exceptionSupplier) {
+        return value.orElseThrow(exceptionSupplier);
+    }
+
+    @Override
+    public String toString() {
+        return "%s after %d attempt(s) in %d ms".formatted(isSuccessful() ? "Found" : "Timed out", attempts, elapsed.toMillis());
+    }
+}
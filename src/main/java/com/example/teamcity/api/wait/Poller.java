@@ -0,0 +1,72 @@
+package com.example.teamcity.api.wait;
+
+import com.example.teamcity.api.spec.request.HttpMetrics;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Polls a probe with exponential backoff until it returns a value or the policy timeout elapses.
+ * <p>
+ * Replaces fixed {@code Thread.sleep} loops: an entity that appears quickly is picked up within milliseconds,
+ * while a slow one is not hammered with requests. Requests of repeated attempts are counted as retries in
+ * {@link HttpMetrics}.
+ */
+public final class Poller {
+
+    private Poller() {}
+
+    /**
+     * Polls with {@link PollingPolicy#defaults()}.
+     *
+     * @param probe returns the awaited value, or empty while it is not available yet
+     * @param <T>   type of the awaited value
+     * @return poll result, empty on timeout
+     */
+    public static <T> PollResult<T> poll(Supplier<Optional<T>> probe) {
+        return poll(PollingPolicy.defaults(), probe);
+    }
+
+    /**
+     * Calls the probe immediately, then after each backoff delay, until it returns a value or the timeout elapses.
+     * The last delay is shortened so that one attempt is always made at the deadline.
+     *
+     * @param policy timing of the attempts
+     * @param probe  returns the awaited value, or empty while it is not available yet
+     * @param <T>    type of the awaited value
+     * @return poll result, empty on timeout
+     * @throws IllegalStateException if the thread is interrupted while waiting; the interrupt flag is restored
+     */
+    public static <T> PollResult<T> poll(PollingPolicy policy, Supplier<Optional<T>> probe) {
+        long start = System.nanoTime();
+        long deadline = start + policy.getTimeout().toNanos();
+        Duration delay = policy.getInitialDelay();
+        int attempts = 0;
+        while (true) {
+            attempts++;
+            Optional<T> value = attempts == 1 ? probe.get() : HttpMetrics.asRetry(probe);
+            long now = System.nanoTime();
+            if (value.isPresent() || now >= deadline) {
+                return new PollResult<>(value, attempts, Duration.ofNanos(now - start));
+            }
+            sleep(Math.min(jittered(delay, policy.getJitter()), deadline - now));
+            delay = policy.nextDelay(delay);
+        }
+    }
+
+    static long jittered(Duration delay, double jitter) {
+        double shift = jitter > 0 ? ThreadLocalRandom.current().nextDouble(-jitter, jitter) : 0;
+        return Math.max(0, (long) (delay.toNanos() * (1 + shift)));
+    }
+
+    private static void sleep(long nanos) {
+        try {
+            Thread.sleep(nanos / 1_000_000, (int) (nanos % 1_000_000));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while polling", e);
+        }
+    }
+}
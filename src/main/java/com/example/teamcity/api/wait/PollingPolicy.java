@@ -0,0 +1,57 @@
+package com.example.teamcity.api.wait;
+
+import com.example.teamcity.api.config.Config;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Timing of a {@link Poller}: the first attempt runs immediately, then the delay starts at {@code initialDelay} and
+ * grows by {@code backoffFactor} up to {@code maxDelay}, each delay randomly shifted by up to {@code jitter} of its
+ * value. Polling stops once {@code timeout} has elapsed.
+ * <p>
+ * Defaults come from {@code config.properties} or JVM properties: {@code poll.initialDelayMillis} (50),
+ * {@code poll.backoffFactor} (2.0), {@code poll.jitter} (0.2), {@code poll.maxDelayMillis} (1000)
+ * and {@code poll.timeoutSeconds} (20).
+ */
+@Getter
+@Builder(toBuilder = true)
+public class PollingPolicy {
+
+    private static final PollingPolicy DEFAULT = PollingPolicy.builder().build();
+
+    @Builder.Default
+    private final Duration initialDelay = Duration.ofMillis(Config.getIntProperty("poll.initialDelayMillis", 50));
+
+    @Builder.Default
+    private final double backoffFactor = Double.parseDouble(Config.getProperty("poll.backoffFactor", "2.0"));
+
+    @Builder.Default
+    private final double jitter = Double.parseDouble(Config.getProperty("poll.jitter", "0.2"));
+
+    @Builder.Default
+    private final Duration maxDelay = Duration.ofMillis(Config.getIntProperty("poll.maxDelayMillis", 1000));
+
+    @Builder.Default
+    private final Duration timeout = Duration.ofSeconds(Config.getIntProperty("poll.timeoutSeconds", 20));
+
+    public static PollingPolicy defaults() {
+        return DEFAULT;
+    }
+
+    /**
+     * Returns the default policy with another timeout.
+     *
+     * @param timeout maximum time to poll
+     * @return polling policy
+     */
+    public static PollingPolicy withTimeout(Duration timeout) {
+        return DEFAULT.toBuilder().timeout(timeout).build();
+    }
+
+    Duration nextDelay(Duration delay) {
+        long next = (long) Math.min(delay.toMillis() * backoffFactor, maxDelay.toMillis());
+        return Duration.ofMillis(Math.max(next, 1));
+    }
+}
@@ -1,22 +1,50 @@
 package com.example.teamcity.ui.helpers;
 
+import com.codeborne.selenide.Selenide;
+import com.codeborne.selenide.WebDriverRunner;
 import com.example.teamcity.api.enums.ApiEndpoint;
+import com.example.teamcity.api.enums.WebRoute;
+import com.example.teamcity.api.helpers.ApiSessionHelper;
 import com.example.teamcity.api.models.User;
 import com.example.teamcity.api.requests.CheckedRequest;
 import com.example.teamcity.ui.pages.LoginPage;
 import io.qameta.allure.Step;
+import org.openqa.selenium.Cookie;
+
+import java.util.Map;
 
 public class UiLoginHelper {
 
     private final CheckedRequest checkedRequest;
+    private final ApiSessionHelper sessionHelper = new ApiSessionHelper();
 
     public UiLoginHelper(CheckedRequest checkedRequest) {
         this.checkedRequest = checkedRequest;
     }
 
+    /**
+     * Создает пользователя и авторизует браузер cookie сессии, полученной через API, без формы логина
+     */
     @Step("Login as user '{user.username}'")
     public void loginAs(User user) {
+        checkedRequest.getRequest(ApiEndpoint.USERS).create(user);
+        injectSession(sessionHelper.openSession(user));
+    }
+
+    /**
+     * Создает пользователя и входит через форму логина; только для тестов самой страницы логина
+     */
+    @Step("Login as user '{user.username}' through the login form")
+    public void loginThroughForm(User user) {
         checkedRequest.getRequest(ApiEndpoint.USERS).create(user);
         LoginPage.open().login(user);
     }
+
+    @Step("Add session cookies to the browser")
+    private void injectSession(Map<String, String> cookies) {
+        // Cookie можно добавить только для домена открытой страницы, поэтому открываем самую легкую страницу сервера
+        Selenide.open(WebRoute.FAVICON.getUrl());
+        var browserCookies = WebDriverRunner.getWebDriver().manage();
+        cookies.forEach((name, value) -> browserCookies.addCookie(new Cookie(name, value, "/")));
+    }
 }
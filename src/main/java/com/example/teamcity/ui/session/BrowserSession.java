@@ -0,0 +1,175 @@
+package com.example.teamcity.ui.session;
+
+import com.codeborne.selenide.Selenide;
+import com.codeborne.selenide.SelenideConfig;
+import com.codeborne.selenide.WebDriverRunner;
+import com.codeborne.selenide.webdriver.WebDriverFactory;
+import com.example.teamcity.api.config.Config;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.MutableCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Lifecycle of the Selenide browser of a test thread.
+ * <p>
+ * The browser is started before the test from a configuration of its own thread ({@code browser}, {@code remote},
+ * {@code browserSize} and Selenoid options named after the thread), so parallel threads never share mutable
+ * Selenide {@code Configuration} or capabilities.
+ * <p>
+ * By default every UI test gets a new browser, which with Selenoid means a new container. With
+ * {@code ui.session.reuse=true} the browser of a thread is kept between tests and reset instead: after a test the
+ * extra windows are closed, cookies, local and session storage of the application are cleared and the browser is
+ * left on {@code about:blank}, so the next test starts logged out and logs in fresh. Before a test the kept session
+ * is health checked and recycled if it no longer responds; it is also recycled after {@code ui.session.maxTests}
+ * tests (default 50) to bound browser memory growth.
+ * <p>
+ * The browsers are created here and bound to Selenide with {@link WebDriverRunner#setWebDriver}, so Selenide does not
+ * track them: every started browser is remembered until it is closed, and {@link #closeAll()} quits the ones still
+ * open (the kept browser of each thread) at the end of the suite.
+ */
+public final class BrowserSession {
+
+    private static final boolean REUSE = Boolean.parseBoolean(Config.getProperty("ui.session.reuse", "false"));
+    private static final int MAX_TESTS = Config.getIntProperty("ui.session.maxTests", 50);
+    private static final String BLANK_PAGE = "about:blank";
+
+    private static final ThreadLocal<Integer> TESTS_IN_SESSION = ThreadLocal.withInitial(() -> 0);
+    private static final AtomicInteger REUSED = new AtomicInteger();
+    private static final AtomicInteger RECYCLED = new AtomicInteger();
+    private static final ThreadLocal<WebDriver> THREAD_DRIVER = new ThreadLocal<>();
+    private static final Set<WebDriver> STARTED = ConcurrentHashMap.newKeySet();
+
+    private BrowserSession() {}
+
+    public static boolean isReuseEnabled() {
+        return REUSE;
+    }
+
+    /**
+     * Prepares the browser of the current thread for a test: recycles a kept session that is broken or used up and
+     * starts a browser if the thread has none.
+     */
+    public static void beforeTest() {
+        if (REUSE && WebDriverRunner.hasWebDriverStarted()) {
+            if (TESTS_IN_SESSION.get() >= MAX_TESTS || !isHealthy(WebDriverRunner.getWebDriver())) {
+                RECYCLED.incrementAndGet();
+                close();
+            } else {
+                REUSED.incrementAndGet();
+            }
+        }
+        if (!WebDriverRunner.hasWebDriverStarted()) {
+            start();
+        }
+    }
+
+    /**
+     * Releases the browser of the current thread after a test: closes it, or resets it when sessions are reused.
+     */
+    public static void afterTest() {
+        if (!REUSE || !WebDriverRunner.hasWebDriverStarted()) {
+            close();
+            return;
+        }
+        try {
+            reset(WebDriverRunner.getWebDriver());
+            TESTS_IN_SESSION.set(TESTS_IN_SESSION.get() + 1);
+        } catch (WebDriverException e) {
+            System.err.println("Не удалось сбросить сессию браузера, она будет закрыта: " + e.getMessage());
+            RECYCLED.incrementAndGet();
+            close();
+        }
+    }
+
+    /**
+     * @return number of tests that reused a kept browser and number of kept browsers recycled
+     */
+    public static String getStats() {
+        return "reused=%d, recycled=%d".formatted(REUSED.get(), RECYCLED.get());
+    }
+
+    /**
+     * Quits every browser started here that is still open, including the kept browsers of other threads.
+     * Called once after the suite.
+     */
+    public static void closeAll() {
+        close();
+        for (WebDriver driver : List.copyOf(STARTED)) {
+            STARTED.remove(driver);
+            try {
+                driver.quit();
+            } catch (WebDriverException e) {
+                System.err.println("Ошибка при закрытии браузера: " + e.getMessage());
+            }
+        }
+    }
+
+    private static void start() {
+        var capabilities = new MutableCapabilities();
+        capabilities.setCapability("selenoid:options", Map.of(
+                "enableVNC", true,
+                "enableLog", true,
+                "name", Thread.currentThread().getName()));
+        var config = new SelenideConfig()
+                .browser(Config.getProperty("browser"))
+                .remote(Config.getProperty("remote"))
+                .browserSize(Config.getProperty("browserSize"))
+                .baseUrl("http://" + Config.getProperty("host"))
+                .browserCapabilities(capabilities);
+        var driver = new WebDriverFactory().createWebDriver(config, null, new File(config.downloadsFolder()));
+        STARTED.add(driver);
+        THREAD_DRIVER.set(driver);
+        WebDriverRunner.setWebDriver(driver);
+    }
+
+    private static void reset(WebDriver driver) {
+        var windows = driver.getWindowHandles();
+        var mainWindow = windows.iterator().next();
+        for (var window : windows) {
+            if (!window.equals(mainWindow)) {
+                driver.switchTo().window(window).close();
+            }
+        }
+        driver.switchTo().window(mainWindow);
+        // Cookies и storage удаляются только для текущего origin, поэтому сначала чистим их на странице приложения
+        driver.manage().deleteAllCookies();
+        try {
+            ((JavascriptExecutor) driver).executeScript("window.localStorage.clear(); window.sessionStorage.clear();");
+        } catch (JavascriptException e) {
+            // страница без storage (about:blank, data:) - очищать нечего
+        }
+        driver.navigate().to(BLANK_PAGE);
+    }
+
+    private static boolean isHealthy(WebDriver driver) {
+        try {
+            driver.getWindowHandle();
+            return BLANK_PAGE.equals(driver.getCurrentUrl());
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    private static void close() {
+        TESTS_IN_SESSION.remove();
+        var driver = THREAD_DRIVER.get();
+        if (driver != null) {
+            THREAD_DRIVER.remove();
+            STARTED.remove(driver);
+        }
+        try {
+            Selenide.closeWebDriver();
+        } catch (WebDriverException e) {
+            System.err.println("Ошибка при закрытии браузера: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.teamcity.ui.session;
+
+import com.example.teamcity.api.config.Config;
+import io.restassured.path.json.JsonPath;
+
+import java.net.URI;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Number of browsers the UI tests may run at once in the parallel UI mode ({@code ui.parallel=true}).
+ * <p>
+ * The capacity is {@code ui.parallel.slots} when it is set. Otherwise it is asked from Selenoid: its {@code /status}
+ * reports the session limit ({@code -limit}) as {@code total} and the busy sessions as {@code used} and
+ * {@code pending}; {@code config/browsers.json} only lists the browser images and carries no limit. If Selenoid
+ * cannot be asked, the tests run in one browser.
+ */
+public final class BrowserSlots {
+
+    private static final boolean PARALLEL = Boolean.parseBoolean(Config.getProperty("ui.parallel", "false"));
+
+    private BrowserSlots() {}
+
+    public static boolean isParallelEnabled() {
+        return PARALLEL;
+    }
+
+    /**
+     * @return number of browser slots available to the run, at least 1
+     */
+    public static int capacity() {
+        int configured = Config.getIntProperty("ui.parallel.slots", 0);
+        if (configured > 0) {
+            return configured;
+        }
+        var statusUrl = statusUrl(Config.getProperty("remote"));
+        try {
+            JsonPath status = given().get(statusUrl).then().statusCode(200).extract().jsonPath();
+            int free = status.getInt("total") - status.getInt("used") - status.getInt("pending");
+            return Math.max(free, 1);
+        } catch (Exception e) {
+            System.err.println("Не удалось получить число слотов из " + statusUrl + ", UI-тесты пойдут в один поток: " + e.getMessage());
+            return 1;
+        }
+    }
+
+    /**
+     * Selenoid status URL for a WebDriver URL, e.g. {@code http://localhost:4444/wd/hub} to {@code http://localhost:4444/status}.
+     */
+    static String statusUrl(String remote) {
+        var uri = URI.create(remote);
+        return uri.getScheme() + "://" + uri.getRawAuthority() + "/status";
+    }
+}
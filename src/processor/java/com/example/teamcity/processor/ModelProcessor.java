@@ -0,0 +1,303 @@
+package com.example.teamcity.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Generates a {@code <Model>Generator} and a {@code <Model>Comparator} next to every concrete {@code BaseModel}.
+ * <p>
+ * The generator fills a new model exactly like the reflective {@code TestDataGenerator} path, following the
+ * {@code @Random}, {@code @Optional}, {@code @Parameterizable} and {@code @Builder.Default} annotations, but with
+ * plain setter calls. The comparator soft-asserts every field through its getter for {@code EntityValidator}.
+ * Misused annotations are reported as compile errors.
+ * <p>
+ * Project classes are referenced by name only: this processor is compiled before them. It is not registered in
+ * {@code META-INF/services}: the main compilation names it explicitly (see pom.xml), so test sources and other
+ * compilations do not run it. It is triggered by the generator annotations and then processes every model of the round,
+ * including models without them.
+ */
+@SupportedAnnotationTypes({ModelProcessor.RANDOM, ModelProcessor.OPTIONAL, ModelProcessor.PARAMETERIZABLE})
+public class ModelProcessor extends AbstractProcessor {
+
+    private static final String BASE_MODEL = "com.example.teamcity.api.models.BaseModel";
+    static final String RANDOM = "com.example.teamcity.api.annotations.Random";
+    static final String OPTIONAL = "com.example.teamcity.api.annotations.Optional";
+    static final String PARAMETERIZABLE = "com.example.teamcity.api.annotations.Parameterizable";
+    private static final String BUILDER_DEFAULT = "lombok.Builder.Default";
+    private static final Set<String> GENERATOR_ANNOTATIONS = Set.of(RANDOM, OPTIONAL, PARAMETERIZABLE);
+
+    private enum Kind { VALUE, MODEL_LIST, LIST, MODEL, OTHER }
+
+    private record FieldModel(VariableElement element, String name, String type, String rawType, Kind kind,
+                              boolean parameterizable, boolean randomString, boolean optional, boolean hasDefault,
+                              int slot, String nestedType) {
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        var baseModel = processingEnv.getElementUtils().getTypeElement(BASE_MODEL);
+        if (baseModel == null) {
+            return false;
+        }
+        for (TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+            boolean isModel = processingEnv.getTypeUtils().isSubtype(type.asType(), baseModel.asType())
+                    && !type.equals(baseModel);
+            List<FieldModel> fields = readFields(type, isModel);
+            if (isModel && canGenerate(type)) {
+                writeGenerator(type, fields);
+                writeComparator(type, fields);
+            }
+        }
+        return false;
+    }
+
+    private List<FieldModel> readFields(TypeElement type, boolean isModel) {
+        List<FieldModel> fields = new ArrayList<>();
+        int slot = 0;
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            boolean annotated = GENERATOR_ANNOTATIONS.stream().anyMatch(annotation -> hasAnnotation(field, annotation));
+            if (field.getModifiers().contains(Modifier.STATIC)) {
+                if (annotated) {
+                    error(field, "Generator annotations are not supported on static fields");
+                }
+                continue;
+            }
+            if (!annotated && !isModel) {
+                continue;
+            }
+            if (!isModel) {
+                error(field, "Generator annotations are only supported in subclasses of " + BASE_MODEL);
+                continue;
+            }
+            if (annotated && field.getModifiers().contains(Modifier.FINAL)) {
+                error(field, "Generator annotations are not supported on final fields");
+            }
+
+            TypeMirror fieldType = field.asType();
+            String rawType = rawType(fieldType);
+            boolean parameterizable = hasAnnotation(field, PARAMETERIZABLE);
+            boolean optional = hasAnnotation(field, OPTIONAL);
+            boolean random = hasAnnotation(field, RANDOM);
+            if (random && !rawType.equals("java.lang.String")) {
+                error(field, "@Random is only supported on String fields");
+            }
+            if (optional && fieldType.getKind().isPrimitive()) {
+                error(field, "@Optional is not supported on primitive fields");
+            }
+
+            Kind kind;
+            String nestedType = null;
+            if (rawType.equals("java.lang.Boolean") || rawType.equals("java.lang.String")) {
+                kind = Kind.VALUE;
+            } else if (isAssignable(fieldType, "java.util.List")) {
+                var typeArguments = ((DeclaredType) fieldType).getTypeArguments();
+                if (!typeArguments.isEmpty() && isAssignable(typeArguments.get(0), BASE_MODEL)) {
+                    kind = Kind.MODEL_LIST;
+                    nestedType = rawType(typeArguments.get(0));
+                } else {
+                    kind = Kind.LIST;
+                }
+            } else if (isAssignable(fieldType, BASE_MODEL)) {
+                kind = Kind.MODEL;
+                nestedType = rawType;
+            } else {
+                kind = Kind.OTHER;
+            }
+            boolean randomString = random && rawType.equals("java.lang.String");
+            fields.add(new FieldModel(field, field.getSimpleName().toString(), fieldType.toString(), rawType, kind,
+                    parameterizable, randomString, optional, hasAnnotation(field, BUILDER_DEFAULT), slot, nestedType));
+            if (parameterizable || (!randomString && kind != Kind.OTHER)) {
+                slot++;
+            }
+        }
+        return fields;
+    }
+
+    // Generated code calls the no-arg constructor, setters and getters, so it needs a public top-level class with Lombok
+    // accessors; other models keep using the reflective path
+    private boolean canGenerate(TypeElement type) {
+        boolean hasNoArgConstructor = ElementFilter.constructorsIn(type.getEnclosedElements()).stream()
+                .anyMatch(constructor -> constructor.getParameters().isEmpty() && constructor.getModifiers().contains(Modifier.PUBLIC))
+                || hasAnnotation(type, "lombok.NoArgsConstructor");
+        boolean hasAccessors = hasAnnotation(type, "lombok.Data")
+                || (hasAnnotation(type, "lombok.Getter") && hasAnnotation(type, "lombok.Setter"));
+        return !type.getNestingKind().isNested()
+                && type.getKind() == ElementKind.CLASS
+                && type.getModifiers().contains(Modifier.PUBLIC)
+                && !type.getModifiers().contains(Modifier.ABSTRACT)
+                && hasNoArgConstructor
+                && hasAccessors;
+    }
+
+    private void writeGenerator(TypeElement type, List<FieldModel> fields) {
+        String model = type.getSimpleName().toString();
+        write(type, model + "Generator", out -> {
+            out.println("import " + BASE_MODEL + ";");
+            out.println("import com.example.teamcity.api.generators.ModelGenerator;");
+            out.println("import com.example.teamcity.api.generators.RandomData;");
+            out.println("import com.example.teamcity.api.generators.TestDataGenerator;");
+            out.println();
+            out.println("import java.util.ArrayList;");
+            out.println("import java.util.List;");
+            out.println();
+            out.println("@javax.annotation.processing.Generated(\"" + ModelProcessor.class.getName() + "\")");
+            out.println("public final class " + model + "Generator implements ModelGenerator<" + model + "> {");
+            out.println();
+            out.println("    @Override");
+            out.println("    @SuppressWarnings(\"unchecked\")");
+            out.println("    public " + model + " generate(List<BaseModel> generatedModels, Object... parameters) {");
+            out.println("        var instance = new " + model + "();");
+            for (FieldModel field : fields) {
+                writeFieldGeneration(out, field);
+            }
+            out.println("        return instance;");
+            out.println("    }");
+            out.println("}");
+        });
+    }
+
+    // Mirrors TestDataGenerator: a field either gets its parameter (when one is left for its slot) or falls back to
+    // null, random or generated data; fields without a matching rule keep their default value
+    private void writeFieldGeneration(PrintWriter out, FieldModel field) {
+        String setter = "instance." + accessor("set", field) + "(";
+        String random = setter + "RandomData.getString());";
+
+        String whenAvailable = null;
+        if (field.parameterizable() || (!field.randomString() && field.kind() != Kind.OTHER)) {
+            whenAvailable = setter + "(" + field.type() + ") ModelGenerator.parameter(parameters, " + field.slot() + ", "
+                    + boxed(field) + ".class));";
+        } else if (field.randomString()) {
+            whenAvailable = random;
+        }
+
+        String whenMissing = null;
+        if (field.optional() && !field.hasDefault()) {
+            whenMissing = setter + "null);";
+        } else if (field.randomString()) {
+            whenMissing = random;
+        } else if (!field.hasDefault()) {
+            String generated = "TestDataGenerator.generate(generatedModels, " + field.nestedType() + ".class)";
+            whenMissing = switch (field.kind()) {
+                case MODEL_LIST -> setter + "new ArrayList<>(List.of(" + generated + ")));";
+                case LIST -> setter + "List.of());";
+                case MODEL -> setter + generated + ");";
+                default -> null;
+            };
+        }
+
+        if (whenAvailable != null && whenAvailable.equals(whenMissing)) {
+            out.println("        " + whenAvailable);
+        } else if (whenAvailable != null) {
+            out.println("        if (parameters.length > " + field.slot() + ") {");
+            out.println("            " + whenAvailable);
+            if (whenMissing != null) {
+                out.println("        } else {");
+                out.println("            " + whenMissing);
+            }
+            out.println("        }");
+        } else if (whenMissing != null) {
+            out.println("        if (parameters.length <= " + field.slot() + ") {");
+            out.println("            " + whenMissing);
+            out.println("        }");
+        }
+    }
+
+    private void writeComparator(TypeElement type, List<FieldModel> fields) {
+        String model = type.getSimpleName().toString();
+        write(type, model + "Comparator", out -> {
+            out.println("import com.example.teamcity.api.validation.ModelComparator;");
+            out.println("import org.testng.asserts.SoftAssert;");
+            out.println();
+            out.println("import java.util.List;");
+            out.println();
+            out.println("@javax.annotation.processing.Generated(\"" + ModelProcessor.class.getName() + "\")");
+            out.println("public final class " + model + "Comparator implements ModelComparator<" + model + "> {");
+            out.println();
+            out.println("    @Override");
+            out.println("    public void compare(" + model + " expected, " + model + " actual, List<String> ignoredFields, SoftAssert softAssert) {");
+            for (FieldModel field : fields) {
+                String getter = accessor(field.element().asType().getKind() == TypeKind.BOOLEAN ? "is" : "get", field) + "()";
+                out.println("        if (!ignoredFields.contains(\"" + field.name() + "\")) {");
+                out.println("            softAssert.assertEquals((Object) actual." + getter + ", (Object) expected." + getter
+                        + ", \"Field '" + field.name() + "' does not match\");");
+                out.println("        }");
+            }
+            out.println("    }");
+            out.println("}");
+        });
+    }
+
+    private void write(TypeElement type, String className, Consumer<PrintWriter> body) {
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        try (var out = new PrintWriter(processingEnv.getFiler().createSourceFile(packageName + "." + className, type).openWriter())) {
+            out.println("package " + packageName + ";");
+            out.println();
+            body.accept(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Lombok accessor naming: boolean "isActive" -> isActive()/setActive(), other fields "name" -> getName()/setName()
+    private static String accessor(String prefix, FieldModel field) {
+        String name = field.name();
+        boolean primitiveBoolean = field.element().asType().getKind() == TypeKind.BOOLEAN;
+        if (primitiveBoolean && name.length() > 2 && name.startsWith("is") && Character.isUpperCase(name.charAt(2))) {
+            return prefix.equals("is") ? name : prefix + name.substring(2);
+        }
+        return prefix + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private String boxed(FieldModel field) {
+        TypeMirror type = field.element().asType();
+        if (type.getKind().isPrimitive()) {
+            return processingEnv.getTypeUtils().boxedClass(processingEnv.getTypeUtils().getPrimitiveType(type.getKind()))
+                    .getQualifiedName().toString();
+        }
+        return field.rawType();
+    }
+
+    private String rawType(TypeMirror type) {
+        return processingEnv.getTypeUtils().erasure(type).toString();
+    }
+
+    private boolean isAssignable(TypeMirror type, String className) {
+        var element = processingEnv.getElementUtils().getTypeElement(className);
+        var types = processingEnv.getTypeUtils();
+        return element != null && types.isAssignable(types.erasure(type), types.erasure(element.asType()));
+    }
+
+    private static boolean hasAnnotation(Element element, String annotation) {
+        return element.getAnnotationMirrors().stream()
+                .map(mirror -> ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString())
+                .anyMatch(annotation::equals);
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
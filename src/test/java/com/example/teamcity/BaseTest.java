@@ -1,14 +1,27 @@
 package com.example.teamcity;
 
+import com.example.teamcity.api.aspects.StepTimings;
 import com.example.teamcity.api.generators.TestDataStorage;
+import com.example.teamcity.api.generators.UniqueIdSource;
 import com.example.teamcity.api.models.TestData;
 import com.example.teamcity.api.requests.CheckedRequest;
+import com.example.teamcity.api.requests.cache.ResponseCache;
+import com.example.teamcity.api.spec.request.AggregatingCoverageWriter;
+import com.example.teamcity.api.spec.request.ExchangeLog;
+import com.example.teamcity.api.spec.request.HttpConnectionPool;
+import com.example.teamcity.api.spec.request.HttpMetrics;
 import com.example.teamcity.api.spec.request.RequestSpecs;
+import org.testng.ITestResult;
 import org.testng.annotations.AfterMethod;
+import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.BeforeSuite;
 import org.testng.annotations.Listeners;
 import org.testng.asserts.SoftAssert;
 
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+
 import static com.example.teamcity.api.generators.TestDataGenerator.generate;
 
 @Listeners({io.qameta.allure.testng.AllureTestNg.class})
@@ -17,8 +30,18 @@ public class BaseTest {
     protected TestData testData;
     protected CheckedRequest superUserCheckRequests = new CheckedRequest(RequestSpecs.superUserAuthSpec());
 
+    @BeforeSuite(alwaysRun = true)
+    public void printRandomSeed() {
+        long seed = UniqueIdSource.getSeed();
+        System.out.println("Test data random seed: " + seed + " (reproduce with -Drandom.seed=" + seed + ")");
+    }
+
     @BeforeMethod(alwaysRun = true)
-    public void beforeTest() {
+    public void beforeTest(ITestResult result) {
+        UniqueIdSource.startStream(randomStreamKey(result)); // случайные данные теста не зависят от потока
+        TestDataStorage.openScope();
+        StepTimings.openScope();
+        ExchangeLog.openScope();
         try {
             softy = new SoftAssert();
             testData = generate();
@@ -27,15 +50,49 @@ public class BaseTest {
         }
     }
 
+    /**
+     * Key of the random stream of a test invocation: the method name, its data provider parameters and its invocation
+     * number, so every invocation of a parameterized or repeated test gets its own data.
+     */
+    static String randomStreamKey(ITestResult result) {
+        return result.getMethod().getQualifiedName() + Arrays.deepToString(result.getParameters())
+                + "#" + result.getMethod().getCurrentInvocationCount();
+    }
+
     @AfterMethod(alwaysRun = true)
-    public void afterTest() {
+    public void afterTest(ITestResult result) {
+        boolean failed = !result.isSuccess();
         try {
             softy.assertAll();
-            TestDataStorage.getInstance().deleteCreatedEntities(); // Удаление созданных сущностей
         } catch (AssertionError e) {
+            failed = true;
             System.err.println("Ошибка в softAssert.assertAll() " + e.getMessage());
+        } finally {
+            ExchangeLog.closeScope(failed); // HTTP-обмены теста выводятся и прикладываются к Allure только при падении
+            TestDataStorage.getInstance().deleteCreatedEntities(); // Удаление сущностей, созданных этим тестом
+            TestDataStorage.closeScope();
+            StepTimings.closeScope(); // Сводка времени низкоуровневых шагов во вложение Allure
         }
     }
 
+    @AfterSuite(alwaysRun = true)
+    public void deleteSharedEntities() {
+        TestDataStorage.getInstance().deleteCreatedEntities(); // Сущности, созданные вне тестовых методов
+        System.out.println("HTTP connection pool: " + HttpConnectionPool.getTotalStats());
+        try {
+            System.out.println("HTTP metrics report: " + HttpMetrics.writeReport());
+        } catch (UncheckedIOException e) {
+            System.err.println("Ошибка при записи отчета HTTP-метрик: " + e.getMessage());
+        }
+        try {
+            System.out.println("Swagger coverage: " + AggregatingCoverageWriter.getInstance().flush());
+        } catch (RuntimeException e) {
+            System.err.println("Ошибка при записи swagger coverage: " + e.getMessage());
+        }
+        if (ResponseCache.isEnabled()) {
+            System.out.println("Response cache: " + ResponseCache.getStats());
+        }
+        System.out.println("Utility steps:" + System.lineSeparator() + StepTimings.getRunTotals());
+    }
 
 }
@@ -0,0 +1,83 @@
+package com.example.teamcity;
+
+import com.example.teamcity.api.enums.Role;
+import com.example.teamcity.api.generators.TestDataGenerator;
+import com.example.teamcity.api.generators.UniqueIdSource;
+import com.example.teamcity.api.models.TestData;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import org.testng.ITestResult;
+import org.testng.TestNG;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Проверяет, что каждый вызов параметризованного или повторяемого теста получает свои случайные данные, без TeamCity
+ */
+@Feature("Test data randomness")
+@Test(groups = {"Regression"})
+public class RandomStreamKeyTest {
+
+    @Story("Random stream per test invocation")
+    @Test(description = "Invocations of a data provider method should get distinct project IDs and usernames", groups = {"Positive", "RANDOM_DATA"})
+    public void dataProviderInvocationsGetDistinctDataTest() {
+        var generated = run();
+        var projectIds = generated.stream().map(testData -> testData.getProject().getId()).toList();
+        var usernames = generated.stream().map(testData -> testData.getUser().getUsername()).toList();
+
+        assertEquals(generated.size(), InvocationFixture.INVOCATIONS);
+        assertEquals(new HashSet<>(projectIds).size(), projectIds.size(), "Project IDs repeat between invocations: " + projectIds);
+        assertEquals(new HashSet<>(usernames).size(), usernames.size(), "Usernames repeat between invocations: " + usernames);
+    }
+
+    @Story("Random stream per test invocation")
+    @Test(description = "A rerun with the same seed should give every invocation the same data again", groups = {"Positive", "RANDOM_DATA"})
+    public void rerunReproducesInvocationDataTest() {
+        assertEquals(run(), run());
+    }
+
+    private static List<TestData> run() {
+        InvocationFixture.GENERATED.clear();
+        var testng = new TestNG(false);
+        testng.setVerbose(0);
+        testng.setTestClasses(new Class[]{InvocationFixture.class});
+        testng.run();
+        return List.copyOf(InvocationFixture.GENERATED);
+    }
+
+    /**
+     * Параметризованный тест, который генерирует данные так же, как BaseTest.beforeTest
+     */
+    public static class InvocationFixture {
+
+        static final int INVOCATIONS = 6;
+        static final List<TestData> GENERATED = new CopyOnWriteArrayList<>();
+
+        @DataProvider
+        public Object[][] roles() {
+            return new Object[][]{{Role.PROJECT_VIEWER}, {Role.PROJECT_DEVELOPER}, {Role.PROJECT_DEVELOPER}};
+        }
+
+        @BeforeMethod
+        public void startRandomStream(ITestResult result) {
+            UniqueIdSource.startStream(BaseTest.randomStreamKey(result));
+        }
+
+        @Test(dataProvider = "roles")
+        public void parameterizedScenario(Role role) {
+            GENERATED.add(TestDataGenerator.generate());
+        }
+
+        @Test(invocationCount = 3)
+        public void repeatedScenario() {
+            GENERATED.add(TestDataGenerator.generate());
+        }
+    }
+}
@@ -18,6 +18,7 @@ import com.example.teamcity.api.responses.ResponseExtractor;
 import com.example.teamcity.api.spec.request.RequestSpecs;
 import io.qameta.allure.Step;
 import io.restassured.response.Response;
+import org.testng.ITestResult;
 import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.BeforeSuite;
@@ -37,8 +38,8 @@ public abstract class BaseApiTest extends BaseTest {
     private boolean perProjectPermissions;
 
     @BeforeMethod(alwaysRun = true)
-    public void configureUserRequests() {
-        super.beforeTest();
+    public void configureUserRequests(ITestResult result) {
+        super.beforeTest(result);
         Response response = superUserUncheckedRequest.getRequest(ApiEndpoint.USERS).create(testData.getUser());
         User createdUser = ResponseExtractor.extractModel(response, User.class);
         TestDataStorage.getInstance().addCreatedEntity(ApiEndpoint.USERS, String.valueOf(createdUser.getId()));
@@ -0,0 +1,147 @@
+package com.example.teamcity.api;
+
+import com.example.teamcity.api.enums.ApiEndpoint;
+import com.example.teamcity.api.models.Project;
+import com.example.teamcity.api.requests.cache.ConditionalGetFilter;
+import com.example.teamcity.api.requests.checked.CheckedBase;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.http.ContentType;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Проверяет условные GET-запросы (ETag / If-None-Match) на локальном заглушечном сервере, без TeamCity
+ */
+@Feature("Conditional GET")
+@Test(groups = {"Regression"})
+public class ConditionalGetTest {
+
+    private final AtomicReference<String> projectName = new AtomicReference<>();
+    private final AtomicInteger version = new AtomicInteger();
+    private final AtomicInteger bodiesSent = new AtomicInteger();
+    private final List<String> ifNoneMatchHeaders = new CopyOnWriteArrayList<>();
+    private final List<String> ifModifiedSinceHeaders = new CopyOnWriteArrayList<>();
+    private volatile boolean sendEtag;
+
+    private HttpServer server;
+    private CheckedBase<Project> projects;
+
+    @BeforeClass(alwaysRun = true)
+    public void startStubServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext(ApiEndpoint.PROJECTS.getUrl(), this::handleProjects);
+        server.start();
+        projects = new CheckedBase<>(new RequestSpecBuilder()
+                .setBaseUri("http://localhost:" + server.getAddress().getPort())
+                .setContentType(ContentType.JSON)
+                .setAccept(ContentType.JSON)
+                .addFilter(new ConditionalGetFilter(true, 100)) // общий фильтр по умолчанию выключен
+                .build(), ApiEndpoint.PROJECTS);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopStubServer() {
+        server.stop(0);
+    }
+
+    @BeforeMethod(alwaysRun = true)
+    public void resetStubServer() {
+        projectName.set("first");
+        version.incrementAndGet();
+        bodiesSent.set(0);
+        ifNoneMatchHeaders.clear();
+        ifModifiedSinceHeaders.clear();
+        sendEtag = true;
+    }
+
+    // У каждого теста свой locator, т.е. свой URL, чтобы запомненные ответы других тестов не влияли на проверки
+    @Story("Unchanged collection is not downloaded again")
+    @Test(description = "Repeated poll of an unchanged collection should get 304 and reuse the previous response", groups = {"Positive", "CONDITIONAL_GET"})
+    public void repeatedPollOfUnchangedCollectionReusesPreviousResponseTest() {
+        List<Project> first = projects.findEntitiesByLocatorQueryWithPagination("name:unchanged", 10, 0);
+        List<Project> second = projects.findEntitiesByLocatorQueryWithPagination("name:unchanged", 10, 0);
+        List<Project> third = projects.findEntitiesByLocatorQueryWithPagination("name:unchanged", 10, 0);
+
+        assertEquals(bodiesSent.get(), 1, "Only the first poll should download the body");
+        assertEquals(ifNoneMatchHeaders, List.of(etag(), etag()), "Repeated polls should send the remembered ETag");
+        assertEquals(second, first);
+        assertEquals(third, first);
+        assertEquals(first.get(0).getName(), "first");
+    }
+
+    @Story("Changed collection is downloaded again")
+    @Test(description = "Poll after the collection changed should download and return the new body", groups = {"Positive", "CONDITIONAL_GET"})
+    public void pollAfterChangeReturnsNewBodyTest() {
+        projects.findEntitiesByLocatorQueryWithPagination("name:changed", 10, 0);
+        projectName.set("second");
+        version.incrementAndGet();
+
+        List<Project> changed = projects.findEntitiesByLocatorQueryWithPagination("name:changed", 10, 0);
+        List<Project> unchanged = projects.findEntitiesByLocatorQueryWithPagination("name:changed", 10, 0);
+
+        assertEquals(bodiesSent.get(), 2, "The poll after the change should download the new body");
+        assertEquals(changed.get(0).getName(), "second");
+        assertEquals(unchanged, changed);
+    }
+
+    @Story("Responses without validators are not made conditional")
+    @Test(description = "Polls of a server without ETag should always download the body, Last-Modified is ignored", groups = {"Positive", "CONDITIONAL_GET"})
+    public void pollWithoutValidatorsIsNotConditionalTest() {
+        sendEtag = false;
+
+        projects.findEntitiesByLocatorQueryWithPagination("name:plain", 10, 0);
+        projects.findEntitiesByLocatorQueryWithPagination("name:plain", 10, 0);
+
+        assertEquals(bodiesSent.get(), 2);
+        assertTrue(ifNoneMatchHeaders.isEmpty(), "No If-None-Match header should be sent");
+        assertTrue(ifModifiedSinceHeaders.isEmpty(), "No If-Modified-Since header should be sent");
+    }
+
+    private String etag() {
+        return "\"v" + version.get() + "\"";
+    }
+
+    private void handleProjects(HttpExchange exchange) throws IOException {
+        String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+        String ifModifiedSince = exchange.getRequestHeaders().getFirst("If-Modified-Since");
+        if (ifNoneMatch != null) {
+            ifNoneMatchHeaders.add(ifNoneMatch);
+        }
+        if (ifModifiedSince != null) {
+            ifModifiedSinceHeaders.add(ifModifiedSince);
+        }
+        if (sendEtag) {
+            exchange.getResponseHeaders().add("ETag", etag());
+        }
+        exchange.getResponseHeaders().add("Last-Modified", "Wed, 21 Oct 2015 07:28:00 GMT");
+        if (sendEtag && etag().equals(ifNoneMatch)) {
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+            return;
+        }
+        byte[] body = "{\"count\":1,\"project\":[{\"id\":\"p1\",\"name\":\"%s\"}]}"
+                .formatted(projectName.get()).getBytes(StandardCharsets.UTF_8);
+        bodiesSent.incrementAndGet();
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        exchange.getResponseBody().write(body);
+        exchange.close();
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.teamcity.api;
+
+import com.example.teamcity.api.enums.ApiEndpoint;
+import com.example.teamcity.api.models.Project;
+import com.example.teamcity.api.responses.JsonListReader;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+/**
+ * Сверяет потоковое чтение списков JsonListReader с jsonPath().getList на фиксированных телах ответов, без TeamCity
+ */
+@Feature("JSON list reading")
+@Test(groups = {"Regression"})
+public class JsonListReaderTest {
+
+    private static final String PROJECTS = """
+            [{"id":"p1","name":"first","parentProject":{"id":"_Root"},"description":"skipped"},
+             {"id":"p2","name":"second","unknown":{"nested":[1,2,{"deep":true}]}}]""";
+
+    @DataProvider
+    public Object[][] collectionBodies() {
+        return new Object[][]{
+                {"{\"count\":2,\"project\":" + PROJECTS + "}"},
+                {"{\"count\":2,\"href\":\"/app/rest/projects\",\"links\":{\"link\":[{\"type\":\"webView\"}]},\"project\":" + PROJECTS + "}"},
+                {"{\"project\":" + PROJECTS + ",\"count\":2,\"buildType\":[{\"id\":\"bt1\"}],\"meta\":{\"project\":[]}}"},
+                {"{\"count\":0,\"project\":[]}"}
+        };
+    }
+
+    @Story("Collection responses")
+    @Test(description = "Reader should return the same models as jsonPath, whatever fields surround the array", dataProvider = "collectionBodies",
+            groups = {"Positive", "JSON_LIST"})
+    public void readListMatchesJsonPathTest(String body) {
+        Response response = response(body);
+
+        List<Project> streamed = JsonListReader.readList(response, ApiEndpoint.PROJECTS);
+
+        assertEquals(streamed, response.jsonPath().getList("project", Project.class));
+        assertEquals(JsonListReader.readCount(response), response.jsonPath().getInt("count"));
+    }
+
+    @Story("Collection responses")
+    @Test(description = "A response without the array should give an empty list and zero count", groups = {"Positive", "JSON_LIST"})
+    public void missingArrayGivesEmptyListTest() {
+        Response response = response("{\"href\":\"/app/rest/projects\",\"build\":[{\"id\":1}]}");
+
+        assertEquals(JsonListReader.readList(response, ApiEndpoint.PROJECTS), List.of());
+        assertEquals(JsonListReader.readList(response, ApiEndpoint.PROJECTS), response.jsonPath().getList("project", Project.class));
+        assertEquals(JsonListReader.readCount(response), 0);
+    }
+
+    @Story("Collection responses")
+    @Test(description = "A root array body should be read like jsonPath reads it", groups = {"Positive", "JSON_LIST"})
+    public void rootArrayMatchesJsonPathTest() {
+        Response response = response(PROJECTS);
+
+        List<Project> streamed = JsonListReader.readRootList(response, Project.class);
+
+        assertEquals(streamed, response.jsonPath().getList("$", Project.class));
+        assertEquals(streamed.get(0).getParentProject().getId(), "_Root");
+    }
+
+    @Story("Paged responses")
+    @Test(description = "readPage should return nextHref of an intermediate page and none of the last one", groups = {"Positive", "JSON_LIST"})
+    public void readPageReturnsNextHrefTest() {
+        Response firstPage = response("{\"count\":2,\"nextHref\":\"/app/rest/projects?locator=count:2,start:2\",\"project\":" + PROJECTS + "}");
+        Response lastPage = response("{\"count\":2,\"prevHref\":\"/app/rest/projects?locator=count:2,start:0\",\"project\":" + PROJECTS + "}");
+
+        var first = JsonListReader.<Project>readPage(firstPage, ApiEndpoint.PROJECTS);
+        var last = JsonListReader.<Project>readPage(lastPage, ApiEndpoint.PROJECTS);
+
+        assertEquals(first.nextHref(), firstPage.jsonPath().getString("nextHref"));
+        assertTrue(first.hasNext());
+        assertEquals(first.items(), firstPage.jsonPath().getList("project", Project.class));
+        assertNull(last.nextHref());
+        assertFalse(last.hasNext());
+    }
+
+    @Story("Paged responses")
+    @Test(description = "A page with nextHref but no models should not be followed", groups = {"Positive", "JSON_LIST"})
+    public void emptyPageWithNextHrefHasNoNextTest() {
+        var page = JsonListReader.readPage(response("{\"count\":0,\"nextHref\":\"/app/rest/projects?start:2\"}"), ApiEndpoint.PROJECTS);
+
+        assertEquals(page.items(), List.of());
+        assertFalse(page.hasNext());
+    }
+
+    @Story("Collection responses")
+    @Test(description = "A null element should be kept like jsonPath keeps it, and nextHref after the array still read",
+            groups = {"Positive", "JSON_LIST"})
+    public void nullElementIsKeptTest() {
+        Response response = response("{\"project\":[{\"id\":\"p1\"},null,{\"id\":\"p2\"}],\"nextHref\":\"/app/rest/projects?start:3\"}");
+
+        var page = JsonListReader.<Project>readPage(response, ApiEndpoint.PROJECTS);
+
+        assertEquals(page.items(), response.jsonPath().getList("project", Project.class));
+        assertEquals(page.items().size(), 3);
+        assertNull(page.items().get(1));
+        assertEquals(page.nextHref(), "/app/rest/projects?start:3");
+    }
+
+    @Story("Collection responses")
+    @Test(description = "A scalar element should fail the read instead of truncating the list", groups = {"Negative", "JSON_LIST"})
+    public void scalarElementFailsTest() {
+        Response response = response("{\"project\":[{\"id\":\"p1\"},\"p2\",{\"id\":\"p3\"}]}");
+
+        var error = expectThrows(IllegalStateException.class, () -> JsonListReader.readList(response, ApiEndpoint.PROJECTS));
+
+        assertTrue(error.getMessage().contains("element 1"), error.getMessage());
+    }
+
+    private static Response response(String body) {
+        return new ResponseBuilder()
+                .setStatusCode(200)
+                .setContentType("application/json")
+                .setBody(body)
+                .build();
+    }
+}
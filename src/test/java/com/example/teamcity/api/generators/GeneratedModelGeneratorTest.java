@@ -0,0 +1,65 @@
+package com.example.teamcity.api.generators;
+
+import com.example.teamcity.api.models.BaseModel;
+import com.example.teamcity.api.models.ParentProject;
+import com.example.teamcity.api.models.Project;
+import com.example.teamcity.api.models.Role;
+import com.example.teamcity.api.models.Roles;
+import com.example.teamcity.api.models.User;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+/**
+ * Проверяет, что сгенерированные ModelProcessor генераторы заполняют Project и User так же, как reflection
+ */
+@Feature("Test data generation")
+@Test(groups = {"Regression"})
+public class GeneratedModelGeneratorTest {
+
+    @DataProvider
+    public Object[][] generations() {
+        var parent = new ParentProject("_Root", null);
+        var roles = new Roles(List.of(new Role("SYSTEM_ADMIN", "g")));
+        return new Object[][]{
+                {Project.class, new Object[0]},
+                {Project.class, new Object[]{"project_id"}},
+                {Project.class, new Object[]{"project_id", "project name", parent}},
+                {Project.class, new Object[]{"project_id", "project name", parent, true}},
+                {User.class, new Object[0]},
+                {User.class, new Object[]{roles}}
+        };
+    }
+
+    @Story("Generated model generators")
+    @Test(description = "Generated generator should produce the same model as the reflective path", dataProvider = "generations",
+            groups = {"Positive", "GENERATED_MODELS"})
+    public void generatedGeneratorMatchesReflectivePathTest(Class<? extends BaseModel> type, Object[] parameters) {
+        var generator = GeneratedModels.generator(type);
+        assertTrue(generator.isPresent(), "ModelProcessor should generate " + type.getSimpleName() + "Generator");
+
+        // Оба пути берут случайные значения из одинаково инициализированного потока
+        UniqueIdSource.startStream("generated-vs-reflective");
+        BaseModel generated = generator.get().generate(List.of(), parameters);
+        UniqueIdSource.startStream("generated-vs-reflective");
+        BaseModel reflective = TestDataGenerator.generateReflectively(List.of(), type, parameters);
+
+        assertEquals(generated, reflective);
+    }
+
+    @Story("Generated model generators")
+    @Test(description = "Both paths should reject a parameter of a wrong type", groups = {"Negative", "GENERATED_MODELS"})
+    public void wrongParameterTypeIsRejectedTest() {
+        expectThrows(IllegalArgumentException.class,
+                () -> GeneratedModels.generator(Project.class).orElseThrow().generate(List.of(), 42));
+        expectThrows(IllegalArgumentException.class,
+                () -> TestDataGenerator.generateReflectively(List.of(), Project.class, 42));
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.teamcity.api.generators.cleanup;
+
+import com.example.teamcity.api.enums.ApiEndpoint;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.http.ContentType;
+import io.restassured.specification.RequestSpecification;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Проверяет порядок удаления проектов в EntityCleaner на локальном заглушечном сервере, без TeamCity.
+ * <p>
+ * Дерево: root -> child -> grandchild и отдельный проект other. Родитель child и other не записан при регистрации
+ * и читается с сервера.
+ */
+@Feature("Test data cleanup")
+@Test(groups = {"Regression"})
+public class EntityCleanerTest {
+
+    private static final Map<String, String> SERVER_PARENTS = Map.of(
+            "root", "_Root",
+            "child", "root",
+            "grandchild", "child",
+            "other", "_Root");
+    private static final Set<String> TRACKED = Set.of("root", "child", "grandchild", "other");
+    // Родители, известные при регистрации: child и other зарегистрированы только по ID
+    private static final Map<String, String> KNOWN_PARENTS = Map.of("root", "_Root", "grandchild", "child");
+
+    private final List<String> deleted = new CopyOnWriteArrayList<>();
+    private final List<String> parentLookups = new CopyOnWriteArrayList<>();
+
+    private HttpServer server;
+    private RequestSpecification spec;
+
+    @BeforeClass(alwaysRun = true)
+    public void startStubServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext(ApiEndpoint.PROJECTS.getUrl(), this::handleProjects);
+        server.start();
+        spec = new RequestSpecBuilder()
+                .setBaseUri("http://localhost:" + server.getAddress().getPort())
+                .setContentType(ContentType.JSON)
+                .setAccept(ContentType.JSON)
+                .build();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopStubServer() {
+        server.stop(0);
+    }
+
+    @BeforeMethod(alwaysRun = true)
+    public void resetStubServer() {
+        deleted.clear();
+        parentLookups.clear();
+    }
+
+    @Story("Project deletion order")
+    @Test(description = "CASCADE should delete only topmost tracked projects, including a child registered by ID", groups = {"Positive", "CLEANUP"})
+    public void cascadeDeletesOnlyTopmostProjectsTest() {
+        var report = new EntityCleaner(EntityCleaner.ProjectStrategy.CASCADE, spec)
+                .deleteAll(Map.of(ApiEndpoint.PROJECTS, TRACKED), KNOWN_PARENTS);
+
+        assertEquals(Set.copyOf(deleted), Set.of("root", "other"));
+        assertEquals(deleted.size(), 2, "Every topmost project should be deleted once");
+        assertEquals(Set.copyOf(parentLookups), Set.of("child", "other"), "Only parents unknown at registration should be read");
+        assertEquals(report.getFailedCount(), 0);
+    }
+
+    @Story("Project deletion order")
+    @Test(description = "CHILDREN_FIRST should delete every project after its tracked descendants", groups = {"Positive", "CLEANUP"})
+    public void childrenFirstDeletesDescendantsBeforeParentsTest() {
+        var report = new EntityCleaner(EntityCleaner.ProjectStrategy.CHILDREN_FIRST, spec)
+                .deleteAll(Map.of(ApiEndpoint.PROJECTS, TRACKED), KNOWN_PARENTS);
+
+        assertEquals(Set.copyOf(deleted), TRACKED);
+        assertTrue(deleted.indexOf("grandchild") < deleted.indexOf("child"), "Deletion order: " + deleted);
+        assertTrue(deleted.indexOf("child") < deleted.indexOf("root"), "Deletion order: " + deleted);
+        assertEquals(report.getFailedCount(), 0);
+    }
+
+    @Story("Project deletion order")
+    @Test(description = "A single tracked project should be deleted without reading its parent", groups = {"Positive", "CLEANUP"})
+    public void singleProjectIsDeletedWithoutLookupTest() {
+        new EntityCleaner(EntityCleaner.ProjectStrategy.CASCADE, spec)
+                .deleteAll(Map.of(ApiEndpoint.PROJECTS, Set.of("child")), Map.of());
+
+        assertEquals(deleted, List.of("child"));
+        assertTrue(parentLookups.isEmpty());
+    }
+
+    private void handleProjects(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        String id = path.substring(path.lastIndexOf('/') + 1);
+        if ("DELETE".equals(exchange.getRequestMethod())) {
+            deleted.add(id);
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+            return;
+        }
+        parentLookups.add(id);
+        byte[] body = "{\"parentProjectId\":\"%s\"}".formatted(SERVER_PARENTS.get(id)).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        exchange.getResponseBody().write(body);
+        exchange.close();
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.teamcity.api.generators.domain;
+
+import com.example.teamcity.api.models.Project;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import org.testng.annotations.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+/**
+ * Проверяет раскладку дерева проектов по уровням и генерацию сбалансированного дерева, без TeamCity
+ */
+@Feature("Project tree")
+@Test(groups = {"Regression"})
+public class ProjectTreeTest {
+
+    @Story("Levels of a project tree")
+    @Test(description = "levels() should group projects by depth, breadth-first", groups = {"Positive", "PROJECT_TREE"})
+    public void levelsGroupProjectsByDepthTest() {
+        var root = new ProjectTree(project("root"));
+        var first = root.addChild(project("a"));
+        root.addChild(project("b"));
+        first.addChild(project("a1"));
+        first.addChild(project("a2"));
+
+        assertEquals(ids(root.levels()), List.of(List.of("root"), List.of("a", "b"), List.of("a1", "a2")));
+        assertEquals(root.size(), 5);
+        assertEquals(first.getChildren().get(0).getProject().getParentProject().getId(), "a", "addChild should link the child to its parent");
+    }
+
+    @Story("Levels of a project tree")
+    @Test(description = "A tree without children should have a single level", groups = {"Positive", "PROJECT_TREE"})
+    public void singleProjectTreeHasOneLevelTest() {
+        var root = new ProjectTree(project("root"));
+
+        assertEquals(ids(root.levels()), List.of(List.of("root")));
+        assertEquals(root.size(), 1);
+    }
+
+    @Story("Generated project tree")
+    @Test(description = "projectTree should build a balanced tree whose every project has its parent one level up", groups = {"Positive", "PROJECT_TREE"})
+    public void generatedTreeIsBalancedTest() {
+        var tree = ProjectTestData.projectTree("_Root", 3, 2);
+        var levels = tree.levels();
+
+        assertEquals(levels.stream().map(List::size).toList(), List.of(1, 2, 4));
+        assertEquals(tree.size(), 7);
+        assertEquals(tree.getProject().getParentProject().getId(), "_Root");
+        for (int depth = 1; depth < levels.size(); depth++) {
+            Set<String> parentIds = levels.get(depth - 1).stream().map(Project::getId).collect(Collectors.toSet());
+            for (Project project : levels.get(depth)) {
+                assertTrue(parentIds.contains(project.getParentProject().getId()),
+                        "Parent of %s should be on level %d".formatted(project.getId(), depth - 1));
+            }
+        }
+        Set<String> ids = new HashSet<>();
+        levels.forEach(level -> level.forEach(project -> ids.add(project.getId())));
+        assertEquals(ids.size(), 7, "Project IDs should be unique");
+    }
+
+    @Story("Generated project tree")
+    @Test(description = "projectTree with zero fan-out should contain only the root", groups = {"Positive", "PROJECT_TREE"})
+    public void generatedTreeWithoutFanOutTest() {
+        assertEquals(ProjectTestData.projectTree("_Root", 4, 0).levels().size(), 1);
+    }
+
+    @Story("Generated project tree")
+    @Test(description = "projectTree should reject non-positive depth and negative fan-out", groups = {"Negative", "PROJECT_TREE"})
+    public void generatedTreeRejectsInvalidShapeTest() {
+        expectThrows(IllegalArgumentException.class, () -> ProjectTestData.projectTree("_Root", 0, 2));
+        expectThrows(IllegalArgumentException.class, () -> ProjectTestData.projectTree("_Root", 2, -1));
+    }
+
+    private static Project project(String id) {
+        var project = new Project();
+        project.setId(id);
+        project.setName("name_" + id);
+        return project;
+    }
+
+    private static List<List<String>> ids(List<List<Project>> levels) {
+        return levels.stream().map(level -> level.stream().map(Project::getId).toList()).toList();
+    }
+}
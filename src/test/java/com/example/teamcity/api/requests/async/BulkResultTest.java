@@ -0,0 +1,85 @@
+package com.example.teamcity.api.requests.async;
+
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+/**
+ * Проверяет сбор результатов пачки запросов в BulkResult: порядок, индексы ошибок и итоговое исключение
+ */
+@Feature("Bulk requests")
+@Test(groups = {"Regression"})
+public class BulkResultTest {
+
+    @Story("Batch outcome")
+    @Test(description = "Results of a batch without failures should keep the submission order", groups = {"Positive", "BULK"})
+    public void successfulBatchKeepsSubmissionOrderTest() {
+        var delayed = new CompletableFuture<String>();
+        var completion = CompletableFuture.runAsync(() -> delayed.complete("first"));
+
+        var bulk = BulkResult.collect(List.of(delayed, CompletableFuture.completedFuture("second")));
+        completion.join();
+
+        assertFalse(bulk.hasFailures());
+        assertEquals(bulk.getResults(), List.of("first", "second"));
+        assertEquals(bulk.getResultsOrThrow(), List.of("first", "second"));
+    }
+
+    @Story("Batch outcome")
+    @Test(description = "A failed item should leave null at its index and report its cause by index", groups = {"Negative", "BULK"})
+    public void failuresAreReportedByItemIndexTest() {
+        var firstCause = new IllegalStateException("duplicate name");
+        var secondCause = new IllegalArgumentException("bad parent");
+
+        var bulk = BulkResult.collect(List.of(
+                CompletableFuture.completedFuture("p0"),
+                CompletableFuture.<String>failedFuture(firstCause),
+                CompletableFuture.completedFuture("p2"),
+                CompletableFuture.supplyAsync(() -> {
+                    throw secondCause;
+                })));
+
+        assertTrue(bulk.hasFailures());
+        assertEquals(bulk.getResults(), Arrays.asList("p0", null, "p2", null));
+        assertEquals(bulk.getFailures().keySet().stream().toList(), List.of(1, 3));
+        assertSame(bulk.getFailures().get(1), firstCause);
+        assertSame(bulk.getFailures().get(3), secondCause, "The cause should be unwrapped from CompletionException");
+    }
+
+    @Story("Batch outcome")
+    @Test(description = "getResultsOrThrow should name the first failed index and attach every cause", groups = {"Negative", "BULK"})
+    public void resultsOrThrowReportsFirstFailedIndexTest() {
+        var firstCause = new IllegalStateException("first");
+        var secondCause = new IllegalStateException("second");
+        var bulk = BulkResult.collect(List.of(
+                CompletableFuture.completedFuture("p0"),
+                CompletableFuture.completedFuture("p1"),
+                CompletableFuture.<String>failedFuture(firstCause),
+                CompletableFuture.<String>failedFuture(secondCause)));
+
+        var exception = expectThrows(IllegalStateException.class, bulk::getResultsOrThrow);
+
+        assertTrue(exception.getMessage().startsWith("2 of 4 bulk items failed, first at index 2"), exception.getMessage());
+        assertEquals(List.of(exception.getSuppressed()), List.of(firstCause, secondCause));
+    }
+
+    @Story("Batch outcome")
+    @Test(description = "An empty batch should have no results and no failures", groups = {"Positive", "BULK"})
+    public void emptyBatchTest() {
+        var bulk = BulkResult.<String>collect(List.of());
+
+        assertEquals(bulk.getResultsOrThrow(), List.of());
+        assertEquals(bulk.getFailures(), Map.of());
+    }
+}
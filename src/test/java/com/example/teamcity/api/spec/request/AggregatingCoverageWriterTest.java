@@ -0,0 +1,135 @@
+package com.example.teamcity.api.spec.request;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import io.swagger.models.Operation;
+import io.swagger.models.Path;
+import io.swagger.models.Response;
+import io.swagger.models.Swagger;
+import io.swagger.models.parameters.QueryParameter;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Проверяет отбор операций в AggregatingCoverageWriter: дубликаты отбрасываются, новые ответы и значения параметров
+ * сохраняются, и в каждом файле путь с методом встречается не больше одного раза
+ */
+@Feature("Swagger coverage")
+@Test(groups = {"Regression"})
+public class AggregatingCoverageWriterTest {
+
+    private static final String PROJECTS = "/app/rest/projects";
+
+    private java.nio.file.Path outputPath;
+    private AggregatingCoverageWriter writer;
+
+    @BeforeMethod(alwaysRun = true)
+    public void createWriter() throws IOException {
+        outputPath = Files.createTempDirectory("swagger-coverage");
+        writer = new AggregatingCoverageWriter(outputPath, 2);
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void deleteOutput() throws IOException {
+        try (Stream<java.nio.file.Path> files = Files.walk(outputPath)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Story("Aggregated coverage output")
+    @Test(description = "Duplicate exchanges should be written once", groups = {"Positive", "SWAGGER_COVERAGE"})
+    public void duplicateOperationsAreWrittenOnceTest() throws IOException {
+        for (int i = 0; i < 5; i++) {
+            writer.write(exchange(PROJECTS, get(200, "id:p1")));
+        }
+
+        assertTrue(writer.flush().startsWith("5 exchanges, 1 distinct operations, 1 files"));
+        assertEquals(operations(PROJECTS, "get"), List.of("200 id:p1"));
+    }
+
+    @Story("Aggregated coverage output")
+    @Test(description = "Distinct responses of one path and method should be kept in separate files", groups = {"Positive", "SWAGGER_COVERAGE"})
+    public void distinctResponsesAreKeptTest() throws IOException {
+        writer.write(exchange(PROJECTS, get(200, "id:p1")));
+        writer.write(exchange(PROJECTS, get(404, "id:p1")));
+        writer.write(exchange(PROJECTS, get(200, "id:p1")));
+        writer.write(exchange(PROJECTS, new Path().post(operation(200, null))));
+
+        assertTrue(writer.flush().startsWith("4 exchanges, 3 distinct operations, 2 files"));
+        assertEquals(operations(PROJECTS, "get"), List.of("200 id:p1", "404 id:p1"));
+        assertEquals(operations(PROJECTS, "post"), List.of("200 -"));
+    }
+
+    @Story("Aggregated coverage output")
+    @Test(description = "New parameter values should be kept up to the per-parameter limit", groups = {"Positive", "SWAGGER_COVERAGE"})
+    public void newParameterValuesAreKeptUpToLimitTest() throws IOException {
+        for (String locator : List.of("id:p1", "id:p2", "id:p1", "id:p3", "id:p4")) {
+            writer.write(exchange(PROJECTS, get(200, locator)));
+        }
+
+        writer.flush();
+        assertEquals(operations(PROJECTS, "get"), List.of("200 id:p1", "200 id:p2"));
+    }
+
+    @Story("Aggregated coverage output")
+    @Test(description = "Flush should write only the operations received since the previous flush", groups = {"Positive", "SWAGGER_COVERAGE"})
+    public void flushStartsNewAggregationTest() throws IOException {
+        writer.write(exchange(PROJECTS, get(200, "id:p1")));
+        writer.flush();
+
+        assertTrue(writer.flush().startsWith("0 exchanges, 0 distinct operations, 0 files"));
+        assertEquals(operations(PROJECTS, "get"), List.of("200 id:p1"));
+    }
+
+    private static Swagger exchange(String path, Path item) {
+        return new Swagger().host("localhost:8111").basePath("/").path(path, item);
+    }
+
+    private static Path get(int status, String locator) {
+        return new Path().get(operation(status, locator));
+    }
+
+    private static Operation operation(int status, String locator) {
+        var operation = new Operation().response(status, new Response().description("status " + status));
+        if (locator != null) {
+            var parameter = new QueryParameter().type("string").example(locator);
+            parameter.setName("locator");
+            operation.parameter(parameter);
+        }
+        return operation;
+    }
+
+    /**
+     * Operations of a path and method across all output files, as "status example". Parsing fails if a file repeats
+     * a path or a method.
+     */
+    private List<String> operations(String path, String method) throws IOException {
+        var mapper = new ObjectMapper().enable(JsonParser.Feature.STRICT_DUPLICATE_DETECTION);
+        var found = new ArrayList<String>();
+        try (Stream<java.nio.file.Path> files = Files.list(outputPath)) {
+            for (var file : files.toList()) {
+                JsonNode operation = mapper.readTree(file.toFile()).path("paths").path(path).path(method);
+                if (!operation.isMissingNode()) {
+                    String status = operation.path("responses").fieldNames().next();
+                    JsonNode parameters = operation.path("parameters");
+                    found.add(status + " " + (parameters.isEmpty() ? "-" : parameters.get(0).path("x-example").asText()));
+                }
+            }
+        }
+        return found.stream().sorted().toList();
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.teamcity.api.spec.request;
+
+import com.example.teamcity.api.enums.ApiEndpoint;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Проверяет группировку путей по эндпоинтам и расчет перцентилей в HttpMetrics
+ */
+@Feature("HTTP metrics")
+@Test(groups = {"Regression"})
+public class HttpMetricsTest {
+
+    private static final long[] LATENCIES = {10, 20, 30, 40, 50, 60, 70, 80, 90, 100};
+
+    @DataProvider
+    public Object[][] paths() {
+        String projects = ApiEndpoint.PROJECTS.getUrl();
+        return new Object[][]{
+                {projects, projects},
+                {projects + "/id:abc", projects + "/{locator}"},
+                {projects + "/id:abc/parameters/name", projects + "/{locator}"},
+                {projects + "Extra", projects + "Extra"},
+                {"/app/rest/server", "/app/rest/server"},
+                {"/favicon.ico", "/favicon.ico"}
+        };
+    }
+
+    @Story("Endpoint grouping")
+    @Test(description = "Paths below an API endpoint should be grouped under its locator template", dataProvider = "paths",
+            groups = {"Positive", "HTTP_METRICS"})
+    public void endpointOfGroupsPathsByEndpointTest(String path, String expected) {
+        assertEquals(HttpMetrics.endpointOf(path), expected);
+    }
+
+    @DataProvider
+    public Object[][] percentiles() {
+        return new Object[][]{
+                {0.0, 10L},
+                {0.10, 10L},
+                {0.11, 20L},
+                {0.50, 50L},
+                {0.95, 100L},
+                {0.99, 100L},
+                {1.0, 100L}
+        };
+    }
+
+    @Story("Latency percentiles")
+    @Test(description = "Percentile should be the nearest-rank value", dataProvider = "percentiles",
+            groups = {"Positive", "HTTP_METRICS"})
+    public void percentileUsesNearestRankTest(double quantile, long expected) {
+        assertEquals(HttpMetrics.percentile(LATENCIES, quantile), expected);
+    }
+
+    @Story("Latency percentiles")
+    @Test(description = "Every percentile of a single value should be that value", groups = {"Positive", "HTTP_METRICS"})
+    public void percentileOfSingleValueTest() {
+        long[] single = {42};
+
+        assertEquals(HttpMetrics.percentile(single, 0.50), 42);
+        assertEquals(HttpMetrics.percentile(single, 0.99), 42);
+    }
+}
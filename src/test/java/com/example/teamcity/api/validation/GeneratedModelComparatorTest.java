@@ -0,0 +1,76 @@
+package com.example.teamcity.api.validation;
+
+import com.example.teamcity.api.generators.GeneratedModels;
+import com.example.teamcity.api.models.ParentProject;
+import com.example.teamcity.api.models.Project;
+import com.example.teamcity.api.models.Role;
+import com.example.teamcity.api.models.Roles;
+import com.example.teamcity.api.models.User;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.testng.asserts.IAssert;
+import org.testng.asserts.SoftAssert;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Проверяет, что сгенерированные ModelProcessor компараторы находят те же расхождения в Project и User, что и reflection
+ */
+@Feature("Entity validation")
+@Test(groups = {"Regression"})
+public class GeneratedModelComparatorTest {
+
+    @DataProvider
+    public Object[][] comparisons() {
+        var project = new Project("p1", "name", new ParentProject("_Root", null), false, null);
+        var renamed = new Project("p1", "other name", new ParentProject("_Root", null), false, null);
+        var moved = new Project("p1", "name", new ParentProject("p0", null), null, null);
+        moved.setProjectsIdsMap(Map.of("a", "b"));
+        var user = new User(1, "user", "secret", new Roles(List.of(new Role("SYSTEM_ADMIN", "g"))));
+        var otherUser = new User(2, "user", "changed", null);
+        return new Object[][]{
+                {project, new Project("p1", "name", new ParentProject("_Root", null), false, null), List.of(), List.of()},
+                {project, renamed, List.of(), List.of("name")},
+                {project, moved, List.of(), List.of("parentProject", "copyAllAssociatedSettings", "projectsIdsMap")},
+                {project, moved, List.of("parentProject", "copyAllAssociatedSettings"), List.of("projectsIdsMap")},
+                {user, new User(1, "user", "secret", new Roles(List.of(new Role("SYSTEM_ADMIN", "g")))), List.of(), List.of()},
+                {user, otherUser, List.of(), List.of("id", "password", "roles")},
+                {user, otherUser, List.of("id", "password", "roles"), List.of()}
+        };
+    }
+
+    @Story("Generated model comparators")
+    @Test(description = "Generated comparator should report the same mismatches as the reflective path", dataProvider = "comparisons",
+            groups = {"Positive", "GENERATED_MODELS"})
+    @SuppressWarnings("unchecked")
+    public void generatedComparatorMatchesReflectivePathTest(Object expected, Object actual, List<String> ignoredFields,
+                                                            List<String> mismatchedFields) {
+        var comparator = GeneratedModels.comparator((Class<Object>) expected.getClass());
+        assertTrue(comparator.isPresent(), "ModelProcessor should generate " + expected.getClass().getSimpleName() + "Comparator");
+
+        var generated = new RecordingSoftAssert();
+        comparator.get().compare(expected, actual, ignoredFields, generated);
+        var reflective = new RecordingSoftAssert();
+        EntityValidator.validateReflectively(expected, actual, ignoredFields, reflective);
+
+        assertEquals(generated.failures, reflective.failures);
+        assertEquals(generated.failures, mismatchedFields.stream().map("Field '%s' does not match"::formatted).toList());
+    }
+
+    // Запоминает сообщения упавших проверок вместо накопления для assertAll
+    private static final class RecordingSoftAssert extends SoftAssert {
+        private final List<String> failures = new ArrayList<>();
+
+        @Override
+        public void onAssertFailure(IAssert<?> assertCommand, AssertionError ex) {
+            failures.add(assertCommand.getMessage());
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.teamcity.api.wait;
+
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+/**
+ * Проверяет Poller со счетчиком вызовов вместо запросов к TeamCity: backoff, jitter, последнюю попытку на дедлайне
+ * и прерывание потока
+ */
+@Feature("Polling")
+@Test(groups = {"Regression"})
+public class PollerTest {
+
+    private static final long MILLI = 1_000_000;
+
+    @AfterMethod(alwaysRun = true)
+    public void clearInterrupt() {
+        Thread.interrupted();
+    }
+
+    @Story("Polling attempts")
+    @Test(description = "A probe that is ready at once should be called once without waiting", groups = {"Positive", "POLLER"})
+    public void immediateHitTest() {
+        var probe = new CountingProbe(1);
+
+        var result = Poller.poll(policy(Duration.ofMillis(500), Duration.ofSeconds(5), 0), probe);
+
+        assertTrue(result.isSuccessful());
+        assertEquals(result.getValue().orElseThrow(), "found after 1");
+        assertEquals(result.getAttempts(), 1);
+        assertEquals(probe.calls.size(), 1);
+        assertTrue(result.getElapsed().toMillis() < 500, "No delay should be spent: " + result);
+    }
+
+    @Story("Polling attempts")
+    @Test(description = "A probe ready on the N-th call should be called N times with growing delays", groups = {"Positive", "POLLER"})
+    public void hitAfterAttemptsWithBackoffTest() {
+        var probe = new CountingProbe(4);
+
+        var result = Poller.poll(policy(Duration.ofMillis(20), Duration.ofSeconds(5), 0), probe);
+
+        assertTrue(result.isSuccessful());
+        assertEquals(result.getAttempts(), 4);
+        assertEquals(probe.calls.size(), 4);
+        // Без jitter паузы не короче 20, 40 и 80 мс
+        List<Long> gaps = probe.gaps();
+        for (int i = 0; i < gaps.size(); i++) {
+            long expected = 20L << i;
+            assertTrue(gaps.get(i) >= expected * MILLI, "Gap %d should be at least %d ms: %s".formatted(i, expected, probe.gapsMillis()));
+        }
+    }
+
+    @Story("Polling attempts")
+    @Test(description = "A probe that never becomes ready should get a last attempt at the deadline", groups = {"Negative", "POLLER"})
+    public void timeoutMakesLastAttemptAtDeadlineTest() {
+        var probe = new CountingProbe(Integer.MAX_VALUE);
+        var timeout = Duration.ofMillis(200);
+
+        var result = Poller.poll(policy(Duration.ofMillis(50), timeout, 0), probe);
+
+        assertFalse(result.isSuccessful());
+        assertEquals(result.getAttempts(), probe.calls.size());
+        long lastAttempt = probe.calls.get(probe.calls.size() - 1) - probe.calls.get(0);
+        assertTrue(lastAttempt >= timeout.toNanos() - MILLI, "The last attempt should run at the deadline: " + probe.gapsMillis());
+        assertTrue(result.getElapsed().compareTo(timeout) >= 0);
+        assertTrue(result.getElapsed().toMillis() < timeout.toMillis() + 150, "Polling should stop right after the deadline: " + result);
+        // Попытки в 0, 50, 150 и 200 мс: последняя пауза укорочена до дедлайна
+        assertTrue(probe.calls.size() >= 4 && probe.calls.size() <= 5, "Attempts: " + probe.gapsMillis());
+    }
+
+    @Story("Polling attempts")
+    @Test(description = "An interrupted thread should stop polling with the interrupt flag kept", groups = {"Negative", "POLLER"})
+    public void interruptStopsPollingTest() {
+        var probe = new CountingProbe(Integer.MAX_VALUE);
+        Thread.currentThread().interrupt();
+
+        var exception = expectThrows(IllegalStateException.class,
+                () -> Poller.poll(policy(Duration.ofMillis(50), Duration.ofSeconds(5), 0), probe));
+
+        assertTrue(exception.getCause() instanceof InterruptedException);
+        assertTrue(Thread.currentThread().isInterrupted(), "Interrupt flag should be restored");
+        assertEquals(probe.calls.size(), 1);
+    }
+
+    @Story("Backoff")
+    @Test(description = "Delay should grow by the backoff factor up to the maximum delay", groups = {"Positive", "POLLER"})
+    public void nextDelayGrowsUpToMaximumTest() {
+        var policy = PollingPolicy.builder()
+                .initialDelay(Duration.ofMillis(50))
+                .backoffFactor(2.0)
+                .maxDelay(Duration.ofMillis(300))
+                .build();
+
+        var delays = new ArrayList<Long>();
+        Duration delay = policy.getInitialDelay();
+        for (int i = 0; i < 5; i++) {
+            delays.add(delay.toMillis());
+            delay = policy.nextDelay(delay);
+        }
+
+        assertEquals(delays, List.of(50L, 100L, 200L, 300L, 300L));
+        assertEquals(policy.nextDelay(Duration.ZERO), Duration.ofMillis(1), "Delay should never drop to zero");
+    }
+
+    @Story("Backoff")
+    @Test(description = "Jitter should spread delays within the configured share around the base delay", groups = {"Positive", "POLLER"})
+    public void jitterStaysWithinBoundsTest() {
+        var delay = Duration.ofMillis(100);
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (int i = 0; i < 1000; i++) {
+            long jittered = Poller.jittered(delay, 0.2);
+            min = Math.min(min, jittered);
+            max = Math.max(max, jittered);
+        }
+
+        assertTrue(min >= 80 * MILLI && max <= 120 * MILLI, "Jittered delays out of bounds: %d..%d ns".formatted(min, max));
+        assertTrue(min < 95 * MILLI && max > 105 * MILLI, "Jitter should spread the delays: %d..%d ns".formatted(min, max));
+        assertEquals(Poller.jittered(delay, 0), delay.toNanos(), "Without jitter the delay should be kept");
+    }
+
+    private static PollingPolicy policy(Duration initialDelay, Duration timeout, double jitter) {
+        return PollingPolicy.builder()
+                .initialDelay(initialDelay)
+                .backoffFactor(2.0)
+                .jitter(jitter)
+                .maxDelay(Duration.ofSeconds(1))
+                .timeout(timeout)
+                .build();
+    }
+
+    // Возвращает значение начиная с вызова readyOn и запоминает время каждого вызова
+    private static final class CountingProbe implements Supplier<Optional<String>> {
+        private final int readyOn;
+        private final List<Long> calls = new ArrayList<>();
+
+        private CountingProbe(int readyOn) {
+            this.readyOn = readyOn;
+        }
+
+        @Override
+        public Optional<String> get() {
+            calls.add(System.nanoTime());
+            return calls.size() >= readyOn ? Optional.of("found after " + calls.size()) : Optional.empty();
+        }
+
+        private List<Long> gaps() {
+            var gaps = new ArrayList<Long>();
+            for (int i = 1; i < calls.size(); i++) {
+                gaps.add(calls.get(i) - calls.get(i - 1));
+            }
+            return gaps;
+        }
+
+        private List<Long> gapsMillis() {
+            return gaps().stream().map(gap -> gap / MILLI).toList();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.teamcity.ui;
+
+import com.codeborne.selenide.logevents.LogEventListener;
+import com.codeborne.selenide.logevents.SelenideLogger;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import io.qameta.allure.selenide.AllureSelenide;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Проверяет, что Allure-листенер Selenide регистрируется в потоке каждого UI-теста, без запуска браузеров
+ */
+@Feature("Parallel UI")
+@Test(groups = {"Regression"})
+public class AllureSelenideListenerTest {
+
+    private static final String ALLURE_LISTENER = "AllureSelenide";
+
+    @Story("Allure reporting of UI tests")
+    @Test(description = "A test on a pool thread should get the Allure listener, not only the suite thread", groups = {"Positive", "PARALLEL_UI"})
+    public void listenerIsRegisteredOnPoolThreadTest() throws Exception {
+        ExecutorService pool = Executors.newSingleThreadExecutor(task -> new Thread(task, "ui-test-pool"));
+        try {
+            BaseUiTest.registerAllureListener(); // как @BeforeSuite в потоке сьюта
+            boolean suiteListenerOnPoolThread = onThread(pool, () -> SelenideLogger.hasListener(ALLURE_LISTENER));
+            boolean registeredOnPoolThread = onThread(pool, () -> {
+                BaseUiTest.registerAllureListener();
+                return SelenideLogger.hasListener(ALLURE_LISTENER);
+            });
+
+            assertFalse(suiteListenerOnPoolThread, "Selenide listeners are expected to be kept per thread");
+            assertTrue(registeredOnPoolThread, "Allure listener should be registered on the pool thread");
+        } finally {
+            SelenideLogger.removeListener(ALLURE_LISTENER);
+            pool.shutdownNow();
+        }
+    }
+
+    @Story("Allure reporting of UI tests")
+    @Test(description = "The next test on the same thread should keep the registered listener", groups = {"Positive", "PARALLEL_UI"})
+    public void registeredListenerIsKeptTest() {
+        LogEventListener registered = new AllureSelenide();
+        SelenideLogger.addListener(ALLURE_LISTENER, registered);
+        try {
+            BaseUiTest.registerAllureListener();
+        } finally {
+            assertSame(SelenideLogger.removeListener(ALLURE_LISTENER), registered);
+        }
+    }
+
+    private static <T> T onThread(ExecutorService thread, Supplier<T> action) throws Exception {
+        return CompletableFuture.supplyAsync(action, thread).get();
+    }
+}
@@ -1,7 +1,6 @@
 package com.example.teamcity.ui;
 
 import com.codeborne.selenide.Configuration;
-import com.codeborne.selenide.Selenide;
 import com.codeborne.selenide.logevents.SelenideLogger;
 import com.example.teamcity.BaseTest;
 import com.example.teamcity.api.config.Config;
@@ -12,15 +11,17 @@ import com.example.teamcity.api.models.User;
 import com.example.teamcity.ui.helpers.UiBuildTypeHelper;
 import com.example.teamcity.ui.helpers.UiLoginHelper;
 import com.example.teamcity.ui.helpers.UiProjectHelper;
+import com.example.teamcity.ui.session.BrowserSession;
 import io.qameta.allure.selenide.AllureSelenide;
 import org.testng.annotations.AfterMethod;
+import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.BeforeSuite;
 
-import java.util.Map;
-
 public class BaseUiTest extends BaseTest {
 
+    private static final String ALLURE_LISTENER = "AllureSelenide";
+
     protected UiProjectHelper uiProjectHelper;
     protected UiBuildTypeHelper uiBuildTypeHelper;
     protected UiLoginHelper uiLoginHelper;
@@ -31,12 +32,8 @@ public class BaseUiTest extends BaseTest {
 
     @BeforeSuite(alwaysRun = true)
     public void setupUiSuite() {
-        SelenideLogger.addListener("AllureSelenide", new AllureSelenide().screenshots(true).savePageSource(true));
-        Configuration.browser = Config.getProperty("browser");
+        // baseUrl нужен Selenide.open для относительных адресов; браузер, remote и capabilities задает BrowserSession
         Configuration.baseUrl = "http://" + Config.getProperty("host");
-        Configuration.remote = Config.getProperty("remote");
-        Configuration.browserSize = Config.getProperty("browserSize");
-        Configuration.browserCapabilities.setCapability("selenoid:options", Map.of("enableVNC", true, "enableLog", true));
     }
 
     @BeforeMethod(alwaysRun = true)
@@ -47,14 +44,39 @@ public class BaseUiTest extends BaseTest {
         uiProjectHelper = new UiProjectHelper();
         uiBuildTypeHelper = new UiBuildTypeHelper(superUserCheckRequests);
         uiLoginHelper = new UiLoginHelper(superUserCheckRequests);
+        registerAllureListener();
+        BrowserSession.beforeTest();
     }
 
     @AfterMethod(alwaysRun = true)
     public void closeWebDriver() {
-        Selenide.closeWebDriver();
+        BrowserSession.afterTest(); // закрывает браузер или, при ui.session.reuse, сбрасывает его для следующего теста
+    }
+
+    @AfterSuite(alwaysRun = true)
+    public void closeBrowserSessions() {
+        BrowserSession.closeAll();
+        if (BrowserSession.isReuseEnabled()) {
+            System.out.println("Browser sessions: " + BrowserSession.getStats());
+        }
+    }
+
+    /**
+     * Registers the Allure listener of Selenide steps, screenshots and page sources on the current thread.
+     * {@link SelenideLogger} keeps its listeners per thread, so a listener added once before the suite would miss the
+     * tests of the parallel runs, which run on pool threads.
+     */
+    static void registerAllureListener() {
+        if (!SelenideLogger.hasListener(ALLURE_LISTENER)) {
+            SelenideLogger.addListener(ALLURE_LISTENER, new AllureSelenide().screenshots(true).savePageSource(true));
+        }
     }
 
     protected void loginAs(User user) {
         uiLoginHelper.loginAs(user);
     }
+
+    protected void loginThroughForm(User user) {
+        uiLoginHelper.loginThroughForm(user);
+    }
 }
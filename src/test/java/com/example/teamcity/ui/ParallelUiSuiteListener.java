@@ -0,0 +1,87 @@
+package com.example.teamcity.ui;
+
+import com.example.teamcity.ui.session.BrowserSlots;
+import org.testng.IAlterSuiteListener;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlInclude;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Планировщик параллельного UI-режима (ui.parallel=true, профиль parallel-ui).
+ * <p>
+ * Каждый UI-тестовый метод выносится в отдельный &lt;test&gt;, поэтому получает собственный экземпляр класса
+ * (softy, testData и хелперы BaseTest/BaseUiTest не делятся между потоками), а сьют запускается с parallel="tests"
+ * и числом потоков, равным числу слотов браузеров (см. BrowserSlots). Освободившийся поток сразу берет следующий
+ * тест, так что все слоты заняты, пока есть очередь. Остальные классы остаются в исходных &lt;test&gt;.
+ */
+public class ParallelUiSuiteListener implements IAlterSuiteListener {
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        if (!BrowserSlots.isParallelEnabled()) {
+            return;
+        }
+        alter(suites, BrowserSlots.capacity());
+    }
+
+    void alter(List<XmlSuite> suites, int slots) {
+        for (XmlSuite suite : suites) {
+            for (XmlTest test : List.copyOf(suite.getTests())) {
+                splitUiClasses(suite, test);
+                if (test.getXmlClasses().isEmpty() && test.getXmlPackages().isEmpty()) {
+                    suite.getTests().remove(test);
+                }
+            }
+            suite.setParallel(XmlSuite.ParallelMode.TESTS);
+            suite.setThreadCount(slots);
+            System.out.println("Parallel UI: " + suite.getTests().size() + " tests on " + slots + " browser slots");
+        }
+    }
+
+    private void splitUiClasses(XmlSuite suite, XmlTest test) {
+        for (XmlClass xmlClass : List.copyOf(test.getXmlClasses())) {
+            Class<?> testClass = xmlClass.getSupportClass();
+            if (!BaseUiTest.class.isAssignableFrom(testClass)) {
+                continue;
+            }
+            test.getXmlClasses().remove(xmlClass);
+            for (Method method : testMethods(testClass)) {
+                var methodTest = new XmlTest(suite);
+                methodTest.setName(testClass.getSimpleName() + "." + method.getName());
+                methodTest.setIncludedGroups(test.getIncludedGroups());
+                methodTest.setExcludedGroups(test.getExcludedGroups());
+                methodTest.setParameters(test.getLocalParameters());
+                var methodClass = new XmlClass(testClass);
+                methodClass.setIncludedMethods(List.of(new XmlInclude(method.getName())));
+                methodTest.setXmlClasses(new ArrayList<>(List.of(methodClass)));
+            }
+        }
+    }
+
+    // Тестовые методы: с @Test, либо публичные методы самого класса, если @Test стоит на классе
+    // (кроме конфигурационных @BeforeMethod, @AfterClass и т.п.)
+    private static List<Method> testMethods(Class<?> testClass) {
+        boolean classLevelTest = testClass.isAnnotationPresent(Test.class);
+        return Arrays.stream(testClass.getMethods())
+                .filter(method -> !Modifier.isStatic(method.getModifiers()))
+                .filter(method -> method.isAnnotationPresent(Test.class)
+                        || classLevelTest && method.getDeclaringClass() == testClass && !isConfiguration(method))
+                .sorted(Comparator.comparing(Method::getName))
+                .toList();
+    }
+
+    private static boolean isConfiguration(Method method) {
+        return Arrays.stream(method.getDeclaredAnnotations())
+                .map(annotation -> annotation.annotationType().getPackageName())
+                .anyMatch(Test.class.getPackageName()::equals);
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.teamcity.ui;
+
+import com.example.teamcity.api.ConditionalGetTest;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlInclude;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Проверяет разбиение сьюта на &lt;test&gt; по UI-методам в ParallelUiSuiteListener, без запуска браузеров
+ */
+@Feature("Parallel UI")
+@Test(groups = {"Regression"})
+public class ParallelUiSuiteListenerTest {
+
+    private final ParallelUiSuiteListener listener = new ParallelUiSuiteListener();
+
+    @Story("UI methods get their own tests")
+    @Test(description = "Every UI test method should be moved to its own test, API classes should stay in place", groups = {"Positive", "PARALLEL_UI"})
+    public void uiMethodsAreSplitIntoOwnTestsTest() {
+        var suite = new XmlSuite();
+        var original = test(suite, "Regression", CreateBuildTypeTest.class, ConditionalGetTest.class);
+        original.setIncludedGroups(List.of("Regression"));
+        original.setExcludedGroups(List.of("Slow"));
+        original.setParameters(Map.of("browser", "firefox"));
+
+        listener.alter(List.of(suite), 3);
+
+        assertEquals(suite.getParallel(), XmlSuite.ParallelMode.TESTS);
+        assertEquals(suite.getThreadCount(), 3);
+        assertEquals(suite.getTests().stream().map(XmlTest::getName).toList(), List.of(
+                "Regression",
+                "CreateBuildTypeTest.userCannotCreateBuildTypeWithoutName",
+                "CreateBuildTypeTest.userCreatesBuildType"));
+        assertEquals(classNames(original), List.of(ConditionalGetTest.class.getName()));
+
+        var methodTest = suite.getTests().get(1);
+        assertEquals(classNames(methodTest), List.of(CreateBuildTypeTest.class.getName()));
+        assertEquals(methodTest.getXmlClasses().get(0).getIncludedMethods().stream().map(XmlInclude::getName).toList(),
+                List.of("userCannotCreateBuildTypeWithoutName"));
+        assertEquals(methodTest.getIncludedGroups(), List.of("Regression"));
+        assertEquals(methodTest.getExcludedGroups(), List.of("Slow"));
+        assertEquals(methodTest.getLocalParameters(), Map.of("browser", "firefox"));
+    }
+
+    @Story("UI methods get their own tests")
+    @Test(description = "A test left without classes should be removed from the suite", groups = {"Positive", "PARALLEL_UI"})
+    public void testWithOnlyUiClassesIsRemovedTest() {
+        var suite = new XmlSuite();
+        test(suite, "UI", CreateBuildTypeTest.class);
+
+        listener.alter(List.of(suite), 1);
+
+        assertEquals(suite.getTests().stream().map(XmlTest::getName).toList(), List.of(
+                "CreateBuildTypeTest.userCannotCreateBuildTypeWithoutName",
+                "CreateBuildTypeTest.userCreatesBuildType"));
+    }
+
+    @Story("UI methods get their own tests")
+    @Test(description = "With class-level @Test the public methods of the class are tests, configuration methods are not", groups = {"Positive", "PARALLEL_UI"})
+    public void classLevelTestAnnotationSkipsConfigurationMethodsTest() {
+        var suite = new XmlSuite();
+        test(suite, "UI", ClassLevelUiFixture.class);
+
+        listener.alter(List.of(suite), 2);
+
+        assertEquals(suite.getTests().stream().map(XmlTest::getName).toList(), List.of(
+                "ClassLevelUiFixture.firstScenario",
+                "ClassLevelUiFixture.secondScenario"));
+    }
+
+    private static XmlTest test(XmlSuite suite, String name, Class<?>... classes) {
+        var test = new XmlTest(suite);
+        test.setName(name);
+        var xmlClasses = new ArrayList<XmlClass>();
+        for (Class<?> testClass : classes) {
+            xmlClasses.add(new XmlClass(testClass));
+        }
+        test.setXmlClasses(xmlClasses);
+        return test;
+    }
+
+    private static List<String> classNames(XmlTest test) {
+        return test.getXmlClasses().stream().map(XmlClass::getName).toList();
+    }
+
+    @Test
+    public abstract static class ClassLevelUiFixture extends BaseUiTest {
+
+        @BeforeMethod
+        public void prepareScenario() {
+        }
+
+        public void firstScenario() {
+        }
+
+        @Deprecated
+        public void secondScenario() {
+        }
+    }
+}